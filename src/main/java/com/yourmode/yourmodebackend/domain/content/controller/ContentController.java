@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/content")
@@ -213,4 +215,17 @@ public class ContentController {
         contentService.deleteContent(contentId, userDetails.getUserId());
         return ResponseEntity.ok("Content deleted successfully");
     }
-} 
\ No newline at end of file
+
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "전체 컨텐츠 목록 스트리밍",
+        description = "전체 컨텐츠 목록(카테고리, 바디타입 포함)을 JSON 배열로 스트리밍합니다. " +
+                     "서버는 목록 전체를 메모리에 올리지 않고 한 건씩 응답에 기록합니다."
+    )
+    public ResponseEntity<StreamingResponseBody> getAllContents() {
+        StreamingResponseBody body = contentService::streamAllContents;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -1,5 +1,6 @@
 package com.yourmode.yourmodebackend.domain.content.controller;
 
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentCursorResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
 import com.yourmode.yourmodebackend.domain.content.service.ContentQueryService;
@@ -7,11 +8,15 @@ import com.yourmode.yourmodebackend.global.config.security.auth.CurrentUser;
 import com.yourmode.yourmodebackend.global.config.security.auth.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -50,10 +55,16 @@ public class ContentQueryController {
         return ResponseEntity.ok(contentQueryService.getContents(categoryIds, bodyTypeIds, pageable));
     }
 
-    @GetMapping("/{contentId}")
+    @GetMapping(value = "/{contentId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "컨텐츠 상세 조회", description = "특정 컨텐츠 상세 정보 조회")
-    public ResponseEntity<ContentDetailResponseDto> getContentDetail(@PathVariable Integer contentId) {
-        return ResponseEntity.ok(contentQueryService.getContentDetail(contentId));
+    @ApiResponse(
+        responseCode = "200",
+        description = "컨텐츠 상세 조회 성공",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ContentDetailResponseDto.class))
+    )
+    public ResponseEntity<String> getContentDetail(@PathVariable Integer contentId) {
+        // 저장된 JSON 스냅샷에 카운트만 붙여 그대로 응답 (엔티티 로딩/직렬화 없음)
+        return ResponseEntity.ok(contentQueryService.getContentDetailJson(contentId));
     }
 
     @GetMapping("/my")
@@ -184,6 +195,181 @@ public class ContentQueryController {
     ) {
         return ResponseEntity.ok(contentQueryService.getContentsByUserLikes(userDetails.getUserId(), categoryIds, bodyTypeIds, pageable));
     }
-}
 
+    @GetMapping("/cursor")
+    @Operation(
+        summary = "전체 컨텐츠 목록 커서 조회", 
+        description = "전체 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getContentsByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(contentQueryService.getContentsByCursor(categoryIds, bodyTypeIds, cursor, size));
+    }
+
+    @GetMapping("/my/cursor")
+    @Operation(
+        summary = "내 컨텐츠 목록 커서 조회", 
+        description = "현재 로그인한 사용자가 요청한 ContentRequest에 대응하는 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getMyContentsByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.ok(contentQueryService.getMyContentsByCursor(userDetails.getUserId(), categoryIds, bodyTypeIds, cursor, size));
+    }
+
+    @GetMapping("/editor/cursor")
+    @Operation(
+        summary = "에디터 컨텐츠 목록 커서 조회", 
+        description = "에디터가 자유롭게 작성한 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getEditorContentsByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(contentQueryService.getEditorContentsByCursor(categoryIds, bodyTypeIds, cursor, size));
+    }
+
+    @GetMapping("/custom/cursor")
+    @Operation(
+        summary = "맞춤형 컨텐츠 목록 커서 조회", 
+        description = "사용자 요청에 의해 작성된 맞춤형 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getCustomContentsByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(contentQueryService.getCustomContentsByCursor(categoryIds, bodyTypeIds, cursor, size));
+    }
+
+    @GetMapping("/my/comments/cursor")
+    @Operation(
+        summary = "내가 댓글 단 컨텐츠 목록 커서 조회", 
+        description = "현재 로그인한 사용자가 댓글을 작성한 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getContentsByMyCommentsByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.ok(contentQueryService.getContentsByUserCommentsByCursor(userDetails.getUserId(), categoryIds, bodyTypeIds, cursor, size));
+    }
 
+    @GetMapping("/my/likes/cursor")
+    @Operation(
+        summary = "내가 좋아요한 컨텐츠 목록 커서 조회", 
+        description = "현재 로그인한 사용자가 좋아요를 누른 컨텐츠 목록을 무한 스크롤용으로 조회합니다. (created_at, id) 기준 커서 페이지네이션으로, 전체 개수 없이 다음 페이지 커서를 반환합니다."
+    )
+    public ResponseEntity<ContentCursorResponseDto> getContentsByMyLikesByCursor(
+            @Parameter(
+                description = "카테고리 ID 목록 (예: 1,2,3). 여러 카테고리를 선택하면 OR 조건으로 검색됩니다. " +
+                             "카테고리 목록: 스타일링 가이드(1), 트렌드 분석(2), 패션 팁(3), 시즌 컬렉션(4), 아이템 추천(5)",
+                example = "1,2"
+            )
+            @RequestParam(required = false) List<Integer> categoryIds,
+            
+            @Parameter(
+                description = "바디타입 ID 목록 (예: 1,2,3). 여러 바디타입을 선택하면 OR 조건으로 검색됩니다. " +
+                             "바디타입 목록: 스트레이트(1), 웨이브(2), 내추럴(3), 선택 안함(4)",
+                example = "1,3"
+            )
+            @RequestParam(required = false) List<Integer> bodyTypeIds,
+            
+            @Parameter(description = "이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.ok(contentQueryService.getContentsByUserLikesByCursor(userDetails.getUserId(), categoryIds, bodyTypeIds, cursor, size));
+    }
+}
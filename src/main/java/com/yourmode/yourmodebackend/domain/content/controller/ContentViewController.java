@@ -34,7 +34,7 @@ public class ContentViewController {
      * @return 조회수 추가 결과
      */
     @PostMapping("/{contentId}/view")
-    @Operation(summary = "조회수 추가", description = "특정 콘텐츠에 조회수를 추가합니다. 이미 조회한 경우 조회 시간을 업데이트합니다.")
+    @Operation(summary = "조회수 추가", description = "특정 콘텐츠에 조회수를 추가합니다. 이미 조회한 경우 조회 시간을 업데이트합니다. 조회 기록은 일괄 반영되므로 조회수에는 잠시 후 반영됩니다.")
     @ApiResponses({
         @ApiResponse(
             responseCode = "200",
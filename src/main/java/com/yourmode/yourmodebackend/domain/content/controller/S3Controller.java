@@ -18,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -197,6 +198,28 @@ public class S3Controller {
         return ResponseEntity.ok(BaseResponse.onSuccess(response));
     }
 
+    @PostMapping(value = "/batch-presigned-urls/stream", produces = "application/x-ndjson")
+    @Operation(
+        summary = "배치 Presigned URL 스트리밍 발급",
+        description = "많은 파일(최대 500개)의 Presigned URL을 서명되는 대로 NDJSON으로 스트리밍합니다. " +
+                     "한 줄에 {\"fileName\": ..., \"presignedUrl\": ...} 하나가 기록됩니다. " +
+                     "요청 검증은 스트리밍 시작 전에 수행되므로 오류는 일반 에러 응답으로 반환됩니다. " +
+                     "스트리밍 중 서명에 실패하면 마지막 줄에 {\"error\": {\"code\": ..., \"message\": ...}}가 기록되고 스트림이 끝납니다."
+    )
+    public ResponseEntity<StreamingResponseBody> streamBatchPresignedUrls(
+            @Parameter(
+                description = "배치 Presigned URL 발급 요청",
+                required = true
+            )
+            @Valid @RequestBody BatchPresignedUrlRequestDto requestDto
+    ) {
+        s3Service.validateBatchPresignedUrlRequest(requestDto);
+        StreamingResponseBody body = out -> s3Service.streamBatchPresignedUrls(requestDto, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * Presigned URL을 통한 파일 업로드 테스트 (간단한 테스트용)
      */
@@ -0,0 +1,13 @@
+package com.yourmode.yourmodebackend.domain.content.dto;
+
+/**
+ * 콘텐츠 한 건의 좋아요 수, 댓글 수, 조회수
+ */
+public record ContentCountDto(long likeCount, long commentCount, long viewCount) {
+
+    private static final ContentCountDto EMPTY = new ContentCountDto(0L, 0L, 0L);
+
+    public static ContentCountDto empty() {
+        return EMPTY;
+    }
+}
@@ -20,6 +20,7 @@ public class ContentCreateRequestDto {
 
     @Data
     public static class ContentBlockDto {
+        private Integer blockId; // 수정 시 기존 블록 ID (새 블록이면 null)
         private Integer blockType; // 1: image, 2: text, 3: image_group
         private String contentData; // 텍스트 or 기타 데이터
         private Integer blockOrder;
@@ -34,7 +34,7 @@ public class BatchPresignedUrlRequestDto {
         required = true
     )
     @NotEmpty(message = "파일명 목록은 필수입니다.")
-    @Size(max = 20, message = "한 번에 최대 20개 파일까지 가능합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개 파일까지 가능합니다.")
     private List<@Size(min = 1, max = 255, message = "파일명은 1-255자 사이여야 합니다.") String> fileNames;
     
     @Schema(
@@ -0,0 +1,16 @@
+package com.yourmode.yourmodebackend.domain.content.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ContentCursorResponseDto {
+    private List<ContentListResponseDto> contents;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -19,6 +19,8 @@ public class ContentDetailResponseDto {
     private Long likeCount;
     private Long commentCount;
     private Long viewCount;
+    // 대표 이미지 파생본 URL (파생본 생성이 끝나기 전에는 null)
+    private ImageVariantsDto mainImgVariants;
 
     @Data
     public static class CategoryDto {
@@ -28,6 +30,7 @@ public class ContentDetailResponseDto {
 
     @Data
     public static class ContentBlockDto {
+        private Integer blockId;
         private Integer blockType;
         private String contentData;
         private Integer blockOrder;
@@ -49,6 +52,8 @@ public class ContentDetailResponseDto {
     public static class ContentBlockImageDto {
         private String imageUrl;
         private Integer imageOrder;
+        // 이미지 파생본 URL (파생본 생성이 끝나기 전에는 null)
+        private ImageVariantsDto variants;
     }
 
     @Data
@@ -18,6 +18,8 @@ public class ContentListResponseDto {
     private Long likeCount;
     private Long commentCount;
     private Long viewCount;
+    // 대표 이미지 파생본 URL (파생본 생성이 끝나기 전에는 null)
+    private ImageVariantsDto mainImgVariants;
 
     @Data
     public static class CategoryDto {
@@ -0,0 +1,27 @@
+package com.yourmode.yourmodebackend.domain.content.dto.response;
+
+import com.yourmode.yourmodebackend.domain.content.util.ImageVariant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 파생본 URL (썸네일 320px, 목록 640px, 상세 1080px 너비의 JPEG)
+ * 파생본은 업로드 직후 비동기로 생성되므로, 생성이 끝나기 전의 응답에는 없고 클라이언트는 원본 URL을 사용해야 합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariantsDto {
+    private String thumbnailUrl;
+    private String listUrl;
+    private String detailUrl;
+
+    // 파생본 생성이 끝난 원본 URL에만 사용 (ContentImageVariantResolver)
+    public static ImageVariantsDto of(String imageUrl) {
+        return new ImageVariantsDto(
+                ImageVariant.THUMBNAIL.of(imageUrl),
+                ImageVariant.LIST.of(imageUrl),
+                ImageVariant.DETAIL.of(imageUrl));
+    }
+}
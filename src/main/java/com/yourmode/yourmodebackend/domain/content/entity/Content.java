@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "contents")
+@Table(name = "contents", indexes = @Index(name = "idx_contents_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
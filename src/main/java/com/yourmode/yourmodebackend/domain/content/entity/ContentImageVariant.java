@@ -0,0 +1,25 @@
+package com.yourmode.yourmodebackend.domain.content.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파생본 생성이 끝난 컨텐츠 이미지 원본
+ * 행이 있는 원본 URL만 응답에 파생본 URL을 내려주며, 행은 모든 파생본을 저장한 뒤에 기록합니다.
+ */
+@Entity
+@Table(name = "content_image_variants")
+@Getter @Setter @NoArgsConstructor
+public class ContentImageVariant {
+    @Id
+    @Column(name = "source_url", length = 512)
+    private String sourceUrl;
+
+    @Column(name = "source_etag", length = 100)
+    private String sourceEtag;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt = LocalDateTime.now();
+}
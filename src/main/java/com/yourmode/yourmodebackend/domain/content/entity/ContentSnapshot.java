@@ -0,0 +1,25 @@
+package com.yourmode.yourmodebackend.domain.content.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 컨텐츠 상세 응답 JSON 스냅샷 (좋아요/댓글/조회수 제외)
+ * 컨텐츠 생성/수정 시 다시 생성되며, 상세 조회는 이 행 하나만 읽습니다.
+ */
+@Entity
+@Table(name = "content_snapshots")
+@Getter @Setter @NoArgsConstructor
+public class ContentSnapshot {
+    @Id
+    @Column(name = "content_id")
+    private Integer contentId;
+
+    @Column(name = "body", nullable = false, columnDefinition = "LONGTEXT")
+    private String body;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
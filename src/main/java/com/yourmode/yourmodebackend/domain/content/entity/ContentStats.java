@@ -0,0 +1,30 @@
+package com.yourmode.yourmodebackend.domain.content.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠별 좋아요/댓글/조회수 집계 (content_likes, content_comments, content_views의 비정규화 카운터)
+ */
+@Entity
+@Table(name = "content_stats")
+@Getter @Setter @NoArgsConstructor
+public class ContentStats {
+    @Id
+    @Column(name = "content_id")
+    private Integer contentId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "content_views")
+@Table(name = "content_views", uniqueConstraints = @UniqueConstraint(name = "uk_content_views_content_user", columnNames = {"content_id", "user_id"}))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ContentView {
     @Id
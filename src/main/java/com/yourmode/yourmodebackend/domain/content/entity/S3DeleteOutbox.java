@@ -0,0 +1,39 @@
+package com.yourmode.yourmodebackend.domain.content.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 삭제 대기열 (아웃박스)
+ * 컨텐츠 삭제 트랜잭션 안에서 객체 키를 적재하고, 백그라운드 작업이 일괄 삭제한 뒤 행을 지웁니다.
+ * 최대 재시도 횟수를 넘긴 행은 삭제하지 않고 남겨 두어 수동으로 확인할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "s3_delete_outbox", indexes = @Index(name = "idx_s3_delete_outbox_next_attempt_at", columnList = "next_attempt_at"))
+@Getter @Setter @NoArgsConstructor
+public class S3DeleteOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public S3DeleteOutbox(String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
@@ -0,0 +1,125 @@
+package com.yourmode.yourmodebackend.domain.content.redis;
+
+import com.yourmode.yourmodebackend.domain.content.dto.ContentCountDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘텐츠별 좋아요/댓글/조회수 실시간 카운터 (Redis Hash: content:counter:{contentId})
+ * 키가 없는 콘텐츠에는 증가를 반영하지 않으며, 조회 시 캐시 미스가 나면 호출자가 DB 값으로 채웁니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ContentCounterRepository {
+    private static final String PREFIX = "content:counter:";
+    private static final String LIKE = "like";
+    private static final String COMMENT = "comment";
+    private static final String VIEW = "view";
+
+    // 키가 있을 때만 증가 (없는 키에 증가분만 쌓이면 잘못된 값이 되므로)
+    private static final String INCREMENT_IF_EXISTS_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "redis.call('HINCRBY', KEYS[1], 'like', ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], 'comment', ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], 'view', ARGV[3]) " +
+            "return 1 end return 0";
+
+    // 키가 없을 때만 채움 (채우는 사이에 다른 요청이 먼저 채운 값을 덮어쓰지 않도록)
+    private static final String SET_IF_ABSENT_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "redis.call('HSET', KEYS[1], 'like', ARGV[1], 'comment', ARGV[2], 'view', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1 end return 0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${content.counter.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 카운터 증감 (키가 있을 때만 반영)
+    public void increment(Integer contentId, long likeDelta, long commentDelta, long viewDelta) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            ((StringRedisConnection) connection).eval(INCREMENT_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1,
+                    key(contentId), String.valueOf(likeDelta), String.valueOf(commentDelta), String.valueOf(viewDelta));
+            return null;
+        });
+    }
+
+    // 여러 콘텐츠의 카운터를 한 번의 파이프라인(HMGET)으로 조회, 캐시에 없는 콘텐츠는 결과에서 제외
+    public Map<Integer, ContentCountDto> findAll(Collection<Integer> contentIds) {
+        Map<Integer, ContentCountDto> result = new HashMap<>();
+        if (contentIds == null || contentIds.isEmpty()) {
+            return result;
+        }
+        List<Integer> ids = new ArrayList<>(contentIds);
+        List<Object> rows = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Integer id : ids) {
+                stringConnection.hMGet(key(id), LIKE, COMMENT, VIEW);
+            }
+            return null;
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            ContentCountDto count = toCount(rows.get(i));
+            if (count != null) {
+                result.put(ids.get(i), count);
+            }
+        }
+        return result;
+    }
+
+    // DB에서 읽은 값으로 캐시를 채움 (파이프라인, 이미 있는 키는 유지)
+    public void warm(Map<Integer, ContentCountDto> counts) {
+        if (counts == null || counts.isEmpty()) {
+            return;
+        }
+        String ttl = String.valueOf(ttlSeconds);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counts.forEach((id, count) -> stringConnection.eval(SET_IF_ABSENT_SCRIPT, ReturnType.INTEGER, 1,
+                    key(id), String.valueOf(count.likeCount()), String.valueOf(count.commentCount()),
+                    String.valueOf(count.viewCount()), ttl));
+            return null;
+        });
+    }
+
+    // 카운터 삭제
+    public void delete(Integer contentId) {
+        stringRedisTemplate.delete(key(contentId));
+    }
+
+    private String key(Integer contentId) {
+        return PREFIX + contentId;
+    }
+
+    private ContentCountDto toCount(Object row) {
+        if (!(row instanceof List<?> values) || values.size() != 3) {
+            return null;
+        }
+        for (Object value : values) {
+            if (value == null) {
+                return null;
+            }
+        }
+        try {
+            return new ContentCountDto(
+                    Long.parseLong(values.get(0).toString()),
+                    Long.parseLong(values.get(1).toString()),
+                    Long.parseLong(values.get(2).toString())
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
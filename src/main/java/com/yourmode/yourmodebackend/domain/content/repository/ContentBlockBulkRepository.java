@@ -0,0 +1,83 @@
+package com.yourmode.yourmodebackend.domain.content.repository;
+
+import com.yourmode.yourmodebackend.domain.content.dto.request.ContentCreateRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 컨텐츠 블록 트리(블록, 스타일, 이미지) 일괄 저장
+ * IDENTITY 엔티티는 Hibernate가 INSERT를 묶지 못하므로 테이블별 다중 행 INSERT로 저장합니다.
+ * 블록 수와 관계없이 블록 INSERT, 블록 ID 조회, 스타일 INSERT, 이미지 INSERT 몇 개의 문장으로 끝납니다.
+ * 호출자의 트랜잭션 안에서, 컨텐츠 행이 저장된 뒤에 호출해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentBlockBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 블록이 하나도 없는 컨텐츠에 블록 트리를 저장하고, 요청 순서대로 블록 ID를 반환합니다.
+     */
+    public List<Integer> insertBlocks(Integer contentId, List<ContentCreateRequestDto.ContentBlockDto> blocks) {
+        if (blocks == null || blocks.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> blockRows = new ArrayList<>();
+        for (ContentCreateRequestDto.ContentBlockDto block : blocks) {
+            blockRows.add(new Object[]{block.getBlockType(), block.getContentData(), block.getBlockOrder(), contentId});
+        }
+        insertRows("content_blocks", "block_type, content_data, block_order, content_id", blockRows);
+
+        // 한 문장 안의 AUTO_INCREMENT 값은 행 순서대로 증가하므로, 새 컨텐츠의 블록 ID를 정렬하면 요청 순서와 일치
+        List<Integer> blockIds = jdbcTemplate.queryForList(
+                "SELECT id FROM content_blocks WHERE content_id = ? ORDER BY id", Integer.class, contentId);
+
+        List<Object[]> styleRows = new ArrayList<>();
+        List<Object[]> imageRows = new ArrayList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            ContentCreateRequestDto.ContentBlockDto block = blocks.get(i);
+            Integer blockId = blockIds.get(i);
+            ContentCreateRequestDto.ContentBlockStyleDto style = block.getStyle();
+            if (style != null) {
+                styleRows.add(new Object[]{blockId, style.getFontFamily(), style.getFontSize(), style.getFontWeight(),
+                        style.getTextColor(), style.getBackgroundColor(), style.getTextAlign()});
+            }
+            for (ContentCreateRequestDto.ContentBlockImageDto image : block.getImages() != null ? block.getImages()
+                    : Collections.<ContentCreateRequestDto.ContentBlockImageDto>emptyList()) {
+                imageRows.add(new Object[]{image.getImageUrl(), image.getImageOrder(), blockId});
+            }
+        }
+        insertRows("content_block_styles",
+                "content_block_id, font_family, font_size, font_weight, text_color, background_color, text_align", styleRows);
+        insertRows("content_block_images", "image_url, image_order, content_block_id", imageRows);
+        return blockIds;
+    }
+
+    private void insertRows(String table, String columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int columnCount = rows.get(0).length;
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(columns).append(") VALUES ");
+            List<Object> params = new ArrayList<>(chunk.size() * columnCount);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(placeholders);
+                Collections.addAll(params, chunk.get(i));
+            }
+            jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+    }
+}
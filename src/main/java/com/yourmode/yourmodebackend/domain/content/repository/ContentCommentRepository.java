@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +26,12 @@ public interface ContentCommentRepository extends JpaRepository<ContentComment,
      */
     Long countByContentId(Integer contentId);
     
+    /**
+     * 여러 콘텐츠의 댓글 수를 한 번에 조회 ([contentId, count] 배열 목록)
+     */
+    @Query("SELECT cc.content.id, COUNT(cc) FROM ContentComment cc WHERE cc.content.id IN :contentIds GROUP BY cc.content.id")
+    List<Object[]> countGroupByContentIdIn(@Param("contentIds") Collection<Integer> contentIds);
+    
     /**
      * 사용자가 작성한 댓글 수 조회
      */
@@ -0,0 +1,34 @@
+package com.yourmode.yourmodebackend.domain.content.repository;
+
+import com.yourmode.yourmodebackend.domain.content.entity.ContentImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ContentImageVariantRepository extends JpaRepository<ContentImageVariant, String> {
+
+    /**
+     * 주어진 원본 URL 중 파생본 생성이 끝난 URL만 조회
+     */
+    @Query("SELECT v.sourceUrl FROM ContentImageVariant v WHERE v.sourceUrl IN :sourceUrls")
+    List<String> findReadySourceUrls(@Param("sourceUrls") Collection<String> sourceUrls);
+
+    /**
+     * 파생본 생성 완료 기록 (이미 있으면 원본 ETag와 생성 시각 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_image_variants (source_url, source_etag, generated_at)
+            VALUES (:sourceUrl, :sourceEtag, NOW())
+            ON DUPLICATE KEY UPDATE source_etag = VALUES(source_etag), generated_at = NOW()
+            """, nativeQuery = true)
+    int markReady(@Param("sourceUrl") String sourceUrl, @Param("sourceEtag") String sourceEtag);
+}
@@ -2,8 +2,12 @@ package com.yourmode.yourmodebackend.domain.content.repository;
 
 import com.yourmode.yourmodebackend.domain.content.entity.ContentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +18,12 @@ public interface ContentLikeRepository extends JpaRepository<ContentLike, Intege
      */
     Long countByContentId(Integer contentId);
     
+    /**
+     * 여러 콘텐츠의 좋아요 수를 한 번에 조회 ([contentId, count] 배열 목록)
+     */
+    @Query("SELECT cl.content.id, COUNT(cl) FROM ContentLike cl WHERE cl.content.id IN :contentIds GROUP BY cl.content.id")
+    List<Object[]> countGroupByContentIdIn(@Param("contentIds") Collection<Integer> contentIds);
+    
     /**
      * 사용자가 특정 콘텐츠에 좋아요를 눌렀는지 확인
      */
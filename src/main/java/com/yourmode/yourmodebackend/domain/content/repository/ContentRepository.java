@@ -1,40 +1,54 @@
 package com.yourmode.yourmodebackend.domain.content.repository;
 
 import com.yourmode.yourmodebackend.domain.content.entity.Content;
+import com.yourmode.yourmodebackend.domain.content.entity.ContentBlock;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ContentRepository extends JpaRepository<Content, Integer> {
 
-
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
-            WHERE (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+    // ===== 목록 조회 1단계: 필터는 EXISTS로 처리하고 ID만 페이지 단위로 조회 =====
+    @Query(value = """
+            SELECT c.id FROM Content c
+            WHERE (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
+            WHERE (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             """)
-    Page<Content> findByCategoryIdsAndBodyTypeIds(
+    Page<Integer> findIdsByCategoryIdsAndBodyTypeIds(
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
             Pageable pageable
     );
 
     // 내 컨텐츠 목록 조회 (특정 사용자가 요청한 ContentRequest에 대응하는 컨텐츠)
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
+    @Query(value = """
+            SELECT c.id FROM Content c
             WHERE c.contentRequest.user.id = :userId
-            AND (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
+            WHERE c.contentRequest.user.id = :userId
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             """)
-    Page<Content> findByUserIdAndCategoryIdsAndBodyTypeIds(
+    Page<Integer> findIdsByUserIdAndCategoryIdsAndBodyTypeIds(
             @Param("userId") Integer userId,
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
@@ -42,47 +56,58 @@ public interface ContentRepository extends JpaRepository<Content, Integer> {
     );
 
     // 에디터 컨텐츠 목록 조회 (ContentRequest가 없는 컨텐츠 - 에디터가 자유롭게 작성)
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
+    @Query(value = """
+            SELECT c.id FROM Content c
             WHERE c.contentRequest IS NULL
-            AND (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
+            WHERE c.contentRequest IS NULL
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             """)
-    Page<Content> findEditorContentsByCategoryIdsAndBodyTypeIds(
+    Page<Integer> findEditorContentIdsByCategoryIdsAndBodyTypeIds(
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
             Pageable pageable
     );
 
     // 맞춤형 컨텐츠 목록 조회 (ContentRequest가 있는 컨텐츠 - 사용자 요청에 의해 작성)
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
+    @Query(value = """
+            SELECT c.id FROM Content c
+            WHERE c.contentRequest IS NOT NULL
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
             WHERE c.contentRequest IS NOT NULL
-            AND (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             """)
-    Page<Content> findCustomContentsByCategoryIdsAndBodyTypeIds(
+    Page<Integer> findCustomContentIdsByCategoryIdsAndBodyTypeIds(
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
             Pageable pageable
     );
 
     // 사용자가 댓글을 단 컨텐츠 목록 조회
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
-            INNER JOIN ContentComment cm ON c.id = cm.content.id
-            WHERE cm.user.id = :userId
-            AND (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+    @Query(value = """
+            SELECT c.id FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentComment cm WHERE cm.content = c AND cm.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             ORDER BY c.createdAt DESC
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentComment cm WHERE cm.content = c AND cm.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             """)
-    Page<Content> findContentsByUserComments(
+    Page<Integer> findContentIdsByUserComments(
             @Param("userId") Integer userId,
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
@@ -90,21 +115,189 @@ public interface ContentRepository extends JpaRepository<Content, Integer> {
     );
 
     // 사용자가 좋아요한 컨텐츠 목록 조회
-    @Query("""
-            SELECT DISTINCT c FROM Content c 
-            LEFT JOIN c.contentCategories cc 
-            LEFT JOIN c.bodyTypes bt 
-            INNER JOIN ContentLike cl ON c.id = cl.content.id
-            WHERE cl.user.id = :userId
-            AND (:categoryIds IS NULL OR cc.id IN :categoryIds)
-            AND (:bodyTypeIds IS NULL OR bt.id IN :bodyTypeIds)
+    @Query(value = """
+            SELECT c.id FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentLike cl WHERE cl.content = c AND cl.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
             ORDER BY c.createdAt DESC
+            """,
+            countQuery = """
+            SELECT COUNT(c) FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentLike cl WHERE cl.content = c AND cl.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            """)
+    Page<Integer> findContentIdsByUserLikes(
+            @Param("userId") Integer userId,
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            Pageable pageable
+    );
+
+
+    // 필터 색인 결과(ID 집합) 중 요청 페이지의 ID 조회, 전체 개수는 색인 결과 크기를 사용
+    @Query("SELECT c.id FROM Content c WHERE c.id IN :ids")
+    List<Integer> findIdsByIdIn(@Param("ids") Collection<Integer> ids, Pageable pageable);
+
+    // 필터 색인 구성용 [contentId, categoryId] 목록
+    @Query("SELECT c.id, cc.id FROM Content c JOIN c.contentCategories cc")
+    List<Object[]> findAllContentCategoryPairs();
+
+    // 필터 색인 구성용 [contentId, bodyTypeId] 목록
+    @Query("SELECT c.id, bt.id FROM Content c JOIN c.bodyTypes bt")
+    List<Object[]> findAllContentBodyTypePairs();
+
+    // 필터 색인 단건 갱신용 카테고리 ID 목록
+    @Query("SELECT cc.id FROM Content c JOIN c.contentCategories cc WHERE c.id = :contentId")
+    List<Integer> findCategoryIdsByContentId(@Param("contentId") Integer contentId);
+
+    // 필터 색인 단건 갱신용 바디타입 ID 목록
+    @Query("SELECT bt.id FROM Content c JOIN c.bodyTypes bt WHERE c.id = :contentId")
+    List<Integer> findBodyTypeIdsByContentId(@Param("contentId") Integer contentId);
+
+    // ===== 목록 조회 2단계: 1단계에서 조회한 ID의 컨텐츠를 카테고리/바디타입과 함께 한 번에 로딩 (순서는 호출자가 복원) =====
+    @Query("""
+            SELECT DISTINCT c FROM Content c
+            LEFT JOIN FETCH c.contentCategories
+            LEFT JOIN FETCH c.bodyTypes
+            WHERE c.id IN :ids
+            """)
+    List<Content> findAllWithCategoriesAndBodyTypesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // ===== 상세 조회용 블록 트리 로딩: 블록+스타일+이미지 1회 (컬렉션 fetch는 images 하나뿐이라 행 수 = 이미지 수) =====
+    @Query("""
+            SELECT DISTINCT b FROM ContentBlock b
+            LEFT JOIN FETCH b.contentBlockStyle
+            LEFT JOIN FETCH b.images
+            WHERE b.content.id = :contentId
+            ORDER BY b.blockOrder
+            """)
+    List<ContentBlock> findBlockTreeByContentId(@Param("contentId") Integer contentId);
+
+    // ===== 전체 목록 스트리밍: 엔티티 없이 스칼라 행을 순방향으로 읽음 (트랜잭션 안에서 사용 후 닫아야 함) =====
+    // [contentId, title, mainImgUrl, isRecommended, publishAt, createdAt, editedAt, categoryId, categoryName, bodyTypeId, bodyTypeName,
+    //  대표 이미지 파생본 생성 완료 시 원본 URL]
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), // MySQL 행 단위 스트리밍
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT c.id, c.title, c.mainImgUrl, c.isRecommended, c.publishAt, c.createdAt, c.editedAt,
+                   cc.id, cc.name, bt.id, bt.name, v.sourceUrl
+            FROM Content c
+            LEFT JOIN ContentImageVariant v ON v.sourceUrl = c.mainImgUrl
+            LEFT JOIN c.contentCategories cc
+            LEFT JOIN c.bodyTypes bt
+            ORDER BY c.id
+            """)
+    Stream<Object[]> streamAllListRows();
+
+    // ===== 커서(keyset) 페이지네이션: (created_at, id) 기준 내림차순, 카운트 쿼리 없음, ID만 조회 =====
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Integer> findIdsByCursor(
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable
+    );
+
+    // 내 컨텐츠 목록 커서 조회
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE c.contentRequest.user.id = :userId
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
             """)
-    Page<Content> findContentsByUserLikes(
+    List<Integer> findIdsByUserIdByCursor(
             @Param("userId") Integer userId,
             @Param("categoryIds") List<Integer> categoryIds,
             @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
             Pageable pageable
     );
 
+    // 에디터 컨텐츠 목록 커서 조회
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE c.contentRequest IS NULL
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Integer> findEditorContentIdsByCursor(
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable
+    );
+
+    // 맞춤형 컨텐츠 목록 커서 조회
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE c.contentRequest IS NOT NULL
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Integer> findCustomContentIdsByCursor(
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable
+    );
+
+    // 사용자가 댓글을 단 컨텐츠 목록 커서 조회
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentComment cm WHERE cm.content = c AND cm.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Integer> findContentIdsByUserCommentsByCursor(
+            @Param("userId") Integer userId,
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable
+    );
+
+    // 사용자가 좋아요한 컨텐츠 목록 커서 조회
+    @Query("""
+            SELECT c.id FROM Content c
+            WHERE EXISTS (SELECT 1 FROM ContentLike cl WHERE cl.content = c AND cl.user.id = :userId)
+            AND (:categoryIds IS NULL OR EXISTS (SELECT 1 FROM c.contentCategories cc WHERE cc.id IN :categoryIds))
+            AND (:bodyTypeIds IS NULL OR EXISTS (SELECT 1 FROM c.bodyTypes bt WHERE bt.id IN :bodyTypeIds))
+            AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Integer> findContentIdsByUserLikesByCursor(
+            @Param("userId") Integer userId,
+            @Param("categoryIds") List<Integer> categoryIds,
+            @Param("bodyTypeIds") List<Integer> bodyTypeIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT MAX(c.id) FROM Content c")
+    Integer findMaxId();
+
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.yourmode.yourmodebackend.domain.content.repository;
+
+import com.yourmode.yourmodebackend.domain.content.entity.ContentSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ContentSnapshotRepository extends JpaRepository<ContentSnapshot, Integer> {
+
+    /**
+     * 스냅샷 저장 (없으면 생성, 있으면 덮어쓰기)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_snapshots (content_id, body, updated_at)
+            VALUES (:contentId, :body, NOW())
+            ON DUPLICATE KEY UPDATE body = VALUES(body), updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(@Param("contentId") Integer contentId, @Param("body") String body);
+
+    /**
+     * 스냅샷이 없을 때만 저장 (이미 있으면 그대로 두고 0 반환)
+     * 조회 경로에서 사용하며, 그 사이 수정으로 저장된 더 새로운 스냅샷을 덮어쓰지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO content_snapshots (content_id, body, updated_at)
+            VALUES (:contentId, :body, NOW())
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("contentId") Integer contentId, @Param("body") String body);
+
+    /**
+     * 스냅샷 본문을 잠금 읽기로 조회 (같은 트랜잭션의 이전 조회 이후 커밋된 값까지 읽음)
+     */
+    @Query(value = "SELECT body FROM content_snapshots WHERE content_id = :contentId LOCK IN SHARE MODE", nativeQuery = true)
+    String findLatestBodyByContentId(@Param("contentId") Integer contentId);
+
+    /**
+     * 스냅샷 본문만 조회
+     */
+    @Query("SELECT s.body FROM ContentSnapshot s WHERE s.contentId = :contentId")
+    String findBodyByContentId(@Param("contentId") Integer contentId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ContentSnapshot s WHERE s.contentId = :contentId")
+    int deleteByContentId(@Param("contentId") Integer contentId);
+}
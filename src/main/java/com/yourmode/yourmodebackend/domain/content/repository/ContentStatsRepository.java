@@ -0,0 +1,78 @@
+package com.yourmode.yourmodebackend.domain.content.repository;
+
+import com.yourmode.yourmodebackend.domain.content.entity.ContentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ContentStatsRepository extends JpaRepository<ContentStats, Integer> {
+
+    /**
+     * 카운터 증감분 반영
+     * 행이 없으면 원본 테이블의 현재 카운트로 생성하고, 있으면 증감분만 더합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_stats (content_id, like_count, comment_count, view_count, updated_at)
+            VALUES (
+                :contentId,
+                (SELECT COUNT(*) FROM content_likes WHERE content_id = :contentId),
+                (SELECT COUNT(*) FROM content_comments WHERE content_id = :contentId),
+                (SELECT COUNT(*) FROM content_views WHERE content_id = :contentId),
+                NOW()
+            )
+            ON DUPLICATE KEY UPDATE
+                like_count = GREATEST(like_count + :likeDelta, 0),
+                comment_count = GREATEST(comment_count + :commentDelta, 0),
+                view_count = GREATEST(view_count + :viewDelta, 0),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int applyDelta(
+            @Param("contentId") Integer contentId,
+            @Param("likeDelta") long likeDelta,
+            @Param("commentDelta") long commentDelta,
+            @Param("viewDelta") long viewDelta
+    );
+
+    /**
+     * 원본 테이블 기준으로 ID 구간의 카운터를 다시 계산
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_stats (content_id, like_count, comment_count, view_count, updated_at)
+            SELECT s.content_id, s.like_count, s.comment_count, s.view_count, NOW()
+            FROM (
+                SELECT c.id AS content_id,
+                       (SELECT COUNT(*) FROM content_likes l WHERE l.content_id = c.id) AS like_count,
+                       (SELECT COUNT(*) FROM content_comments cm WHERE cm.content_id = c.id) AS comment_count,
+                       (SELECT COUNT(*) FROM content_views v WHERE v.content_id = c.id) AS view_count
+                FROM contents c
+                WHERE c.id BETWEEN :fromId AND :toId
+            ) s
+            ON DUPLICATE KEY UPDATE
+                like_count = s.like_count,
+                comment_count = s.comment_count,
+                view_count = s.view_count,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int rebuildRange(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    /**
+     * 삭제된 콘텐츠의 카운터 행 정리
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM content_stats WHERE content_id NOT IN (SELECT id FROM contents)", nativeQuery = true)
+    int deleteOrphans();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ContentStats cs WHERE cs.contentId = :contentId")
+    int deleteByContentId(@Param("contentId") Integer contentId);
+}
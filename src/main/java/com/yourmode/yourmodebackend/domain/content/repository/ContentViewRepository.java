@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,6 +20,12 @@ public interface ContentViewRepository extends JpaRepository<ContentView, Intege
      */
     Long countByContentId(Integer contentId);
     
+    /**
+     * 여러 콘텐츠의 조회수를 한 번에 조회 ([contentId, count] 배열 목록)
+     */
+    @Query("SELECT cv.content.id, COUNT(cv) FROM ContentView cv WHERE cv.content.id IN :contentIds GROUP BY cv.content.id")
+    List<Object[]> countGroupByContentIdIn(@Param("contentIds") Collection<Integer> contentIds);
+    
     /**
      * 사용자가 특정 콘텐츠를 조회했는지 확인
      */
@@ -0,0 +1,29 @@
+package com.yourmode.yourmodebackend.domain.content.repository;
+
+import com.yourmode.yourmodebackend.domain.content.entity.S3DeleteOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface S3DeleteOutboxRepository extends JpaRepository<S3DeleteOutbox, Long> {
+
+    /**
+     * 재시도 시각이 지났고 최대 재시도 횟수에 도달하지 않은 삭제 대기 행을 오래된 순으로 조회
+     */
+    @Query("""
+            SELECT o FROM S3DeleteOutbox o
+            WHERE o.nextAttemptAt <= :now AND o.attempts < :maxAttempts
+            ORDER BY o.id
+            """)
+    List<S3DeleteOutbox> findDue(
+            @Param("now") LocalDateTime now,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable pageable
+    );
+}
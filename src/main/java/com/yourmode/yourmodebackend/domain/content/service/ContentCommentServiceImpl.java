@@ -29,6 +29,7 @@ public class ContentCommentServiceImpl implements ContentCommentService {
     private final ContentCommentRepository contentCommentRepository;
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
+    private final ContentStatsBuffer contentStatsBuffer;
 
     @Override
     @Transactional
@@ -53,6 +54,7 @@ public class ContentCommentServiceImpl implements ContentCommentService {
                 .build();
         
         ContentComment savedComment = contentCommentRepository.save(comment);
+        contentStatsBuffer.recordComment(contentId, 1);
         
         return CommentResponseDto.builder()
                 .id(savedComment.getId())
@@ -148,5 +150,6 @@ public class ContentCommentServiceImpl implements ContentCommentService {
         
         // 댓글 삭제
         contentCommentRepository.delete(comment);
+        contentStatsBuffer.recordComment(comment.getContent().getId(), -1);
     }
 }
@@ -0,0 +1,143 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.domain.content.dto.ContentCountDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
+import com.yourmode.yourmodebackend.domain.content.entity.ContentStats;
+import com.yourmode.yourmodebackend.domain.content.redis.ContentCounterRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentCommentRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentLikeRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentStatsRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 콘텐츠 목록의 좋아요 수, 댓글 수, 조회수를 일괄 조회합니다.
+ * Redis 실시간 카운터를 페이지 단위로 먼저 조회하고, 캐시 미스인 콘텐츠만 MySQL에서 읽어 캐시를 채웁니다.
+ * MySQL에서는 content_stats 카운터를 우선 사용하고, 카운터 행이 아직 없는 콘텐츠만 원본 테이블을 카운터별 GROUP BY 쿼리로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentCountLoader {
+
+    private final ContentLikeRepository contentLikeRepository;
+    private final ContentCommentRepository contentCommentRepository;
+    private final ContentViewRepository contentViewRepository;
+    private final ContentStatsRepository contentStatsRepository;
+    private final ContentCounterRepository contentCounterRepository;
+    private final ContentStatsBuffer contentStatsBuffer;
+
+    /**
+     * 콘텐츠 ID 목록의 카운트를 조회합니다. 결과 맵에는 요청한 모든 ID가 포함됩니다.
+     */
+    public Map<Integer, ContentCountDto> load(Collection<Integer> contentIds) {
+        Map<Integer, ContentCountDto> result = new HashMap<>();
+        if (contentIds == null || contentIds.isEmpty()) {
+            return result;
+        }
+        Set<Integer> ids = new LinkedHashSet<>(contentIds);
+
+        try {
+            result.putAll(contentCounterRepository.findAll(ids));
+        } catch (Exception e) {
+            // Redis 장애 시 DB에서 조회
+            log.warn("Redis 카운터 조회 실패, DB에서 조회합니다 - error: {}", e.getMessage());
+            result.putAll(loadFromDatabase(ids));
+            return result;
+        }
+        ids.removeAll(result.keySet());
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        Map<Integer, ContentCountDto> loaded = loadFromDatabase(ids);
+        result.putAll(loaded);
+        try {
+            contentCounterRepository.warm(loaded);
+        } catch (Exception e) {
+            log.warn("Redis 카운터 적재 실패 - error: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * content_stats에 아직 반영되지 않은 버퍼 증감분을 더해 조회하고, 행이 없는 콘텐츠는 원본 테이블에서 집계합니다.
+     */
+    private Map<Integer, ContentCountDto> loadFromDatabase(Set<Integer> contentIds) {
+        Map<Integer, ContentCountDto> result = new HashMap<>();
+        Set<Integer> ids = new LinkedHashSet<>(contentIds);
+
+        for (ContentStats stats : contentStatsRepository.findAllById(ids)) {
+            ContentCountDto pending = contentStatsBuffer.pendingDelta(stats.getContentId());
+            result.put(stats.getContentId(), new ContentCountDto(
+                    stats.getLikeCount() + pending.likeCount(),
+                    stats.getCommentCount() + pending.commentCount(),
+                    stats.getViewCount() + pending.viewCount()
+            ));
+        }
+        ids.removeAll(result.keySet());
+        if (!ids.isEmpty()) {
+            result.putAll(loadFromSourceTables(ids));
+        }
+        return result;
+    }
+
+    /**
+     * 원본 테이블에서 카운터별 GROUP BY 쿼리로 집계합니다.
+     */
+    private Map<Integer, ContentCountDto> loadFromSourceTables(Set<Integer> ids) {
+        Map<Integer, ContentCountDto> result = new HashMap<>();
+        Map<Integer, Long> likeCounts = toCountMap(contentLikeRepository.countGroupByContentIdIn(ids));
+        Map<Integer, Long> commentCounts = toCountMap(contentCommentRepository.countGroupByContentIdIn(ids));
+        Map<Integer, Long> viewCounts = toCountMap(contentViewRepository.countGroupByContentIdIn(ids));
+
+        for (Integer id : ids) {
+            result.put(id, new ContentCountDto(
+                    likeCounts.getOrDefault(id, 0L),
+                    commentCounts.getOrDefault(id, 0L),
+                    viewCounts.getOrDefault(id, 0L)
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 콘텐츠 한 건의 카운트를 조회합니다.
+     */
+    public ContentCountDto load(Integer contentId) {
+        return load(List.of(contentId)).getOrDefault(contentId, ContentCountDto.empty());
+    }
+
+    /**
+     * 목록 DTO들의 likeCount, commentCount, viewCount를 한 번에 채웁니다.
+     */
+    public void fillListDtos(List<ContentListResponseDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            return;
+        }
+        Map<Integer, ContentCountDto> counts = load(dtos.stream().map(ContentListResponseDto::getId).toList());
+        for (ContentListResponseDto dto : dtos) {
+            ContentCountDto count = counts.getOrDefault(dto.getId(), ContentCountDto.empty());
+            dto.setLikeCount(count.likeCount());
+            dto.setCommentCount(count.commentCount());
+            dto.setViewCount(count.viewCount());
+        }
+    }
+
+    private Map<Integer, Long> toCountMap(List<Object[]> rows) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,157 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.global.common.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컨텐츠 상세 스냅샷 JSON 2단계 캐시 (로컬 LRU → Redis)
+ * 좋아요/댓글/조회수는 캐시하지 않고 조회 시점에 채웁니다.
+ * 수정/삭제 시 Redis 키를 지우고 Pub/Sub으로 모든 서버의 로컬 캐시를 무효화합니다.
+ * 무효화 메시지를 놓쳐도 로컬 항목은 짧은 TTL 뒤 만료되고, 조회 중 무효화가 일어났으면 읽은 값을 캐시에 넣지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "content:detail:";
+    private static final String INVALIDATE_CHANNEL = "content:detail:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${content.detail-cache.local-max-size:1000}")
+    private int localMaxSize;
+
+    @Value("${content.detail-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${content.detail-cache.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    private Map<Integer, LocalEntry> local;
+
+    // 이 서버에서 적용된 무효화 횟수 (조회 시작 후 무효화가 있었는지 확인용)
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record LocalEntry(String json, long storedAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LocalEntry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시된 스냅샷 JSON을 조회합니다. 없으면 null
+     */
+    public String get(Integer contentId) {
+        synchronized (local) {
+            LocalEntry cached = local.get(contentId);
+            if (cached != null) {
+                if (System.currentTimeMillis() - cached.storedAt() < localTtlSeconds * 1000) {
+                    return cached.json();
+                }
+                local.remove(contentId);
+            }
+        }
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + contentId);
+            if (json == null) {
+                return null;
+            }
+            putLocal(contentId, json);
+            return json;
+        } catch (Exception e) {
+            log.warn("컨텐츠 상세 캐시 조회 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 원본 조회 전에 받아 두는 값으로, put에 넘겨 조회 중 무효화가 있었는지 확인합니다.
+     */
+    public long stamp() {
+        return evictions.get();
+    }
+
+    /**
+     * 스냅샷 JSON을 캐시에 저장합니다.
+     * stamp를 받은 뒤 무효화가 있었으면 읽은 값이 이미 오래된 것일 수 있으므로 저장하지 않습니다.
+     */
+    public void put(Integer contentId, String json, long stamp) {
+        if (evictions.get() != stamp) {
+            return;
+        }
+        putLocal(contentId, json);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + contentId, json, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("컨텐츠 상세 캐시 저장 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 서버의 캐시에서 컨텐츠를 제거합니다. (트랜잭션 커밋 후 적용)
+     */
+    public void evict(Integer contentId) {
+        TransactionHooks.runAfterCommit(() -> {
+            evictLocal(contentId);
+            try {
+                stringRedisTemplate.delete(KEY_PREFIX + contentId);
+            } catch (Exception e) {
+                log.warn("컨텐츠 상세 캐시 삭제 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            }
+            // Redis 키 삭제에 실패해도 다른 서버의 로컬 캐시는 무효화해야 함
+            try {
+                stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(contentId));
+            } catch (Exception e) {
+                log.warn("컨텐츠 상세 캐시 무효화 알림 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            }
+        });
+    }
+
+    // 다른 서버에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evictLocal(Integer.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 컨텐츠 상세 캐시 무효화 메시지 - body: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void putLocal(Integer contentId, String json) {
+        synchronized (local) {
+            local.put(contentId, new LocalEntry(json, System.currentTimeMillis()));
+        }
+    }
+
+    private void evictLocal(Integer contentId) {
+        evictions.incrementAndGet();
+        synchronized (local) {
+            local.remove(contentId);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.domain.content.repository.ContentRepository;
+import com.yourmode.yourmodebackend.global.common.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리/바디타입별 컨텐츠 ID 비트맵 (메모리 역색인)
+ * 시작 시 조인 테이블로 한 번 구성하고, 컨텐츠 생성/수정/삭제가 커밋되면 갱신합니다.
+ * 갱신한 서버는 Pub/Sub으로 컨텐츠 ID를 알리고, 다른 서버는 그 컨텐츠의 카테고리/바디타입을 DB에서 다시 읽어 반영합니다.
+ * 전체 재구성 중에 들어온 갱신은 기록해 두었다가 새 색인으로 교체한 뒤 DB에서 다시 읽어 반영하므로 사라지지 않습니다.
+ * 누락된 알림이 있어도 주기적으로 전체를 다시 구성하므로 오래 어긋나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentFilterIndex implements MessageListener {
+
+    private static final String UPDATE_CHANNEL = "content:filter-index:update";
+
+    private final ContentRepository contentRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, BitSet> byCategory = new HashMap<>();
+    private Map<Integer, BitSet> byBodyType = new HashMap<>();
+    // 재구성 중에 갱신된 컨텐츠 ID (재구성 중이 아니면 null, 쓰기 잠금 안에서만 접근)
+    private Set<Integer> changedDuringRebuild;
+    private volatile boolean ready = false;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    /**
+     * 조인 테이블에서 전체 색인을 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${content.filter-index.rebuild-interval-ms:600000}", initialDelayString = "${content.filter-index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Integer> changed;
+        try {
+            Map<Integer, BitSet> categories = toBitmaps(contentRepository.findAllContentCategoryPairs());
+            Map<Integer, BitSet> bodyTypes = toBitmaps(contentRepository.findAllContentBodyTypePairs());
+            lock.writeLock().lock();
+            try {
+                byCategory = categories;
+                byBodyType = bodyTypes;
+                ready = true;
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("컨텐츠 필터 색인 구성 완료 - categories: {}, bodyTypes: {}, replayed: {}",
+                    categories.size(), bodyTypes.size(), changed.size());
+        } catch (Exception e) {
+            // 기존 색인을 그대로 쓰며, 그 사이 갱신은 기존 색인에 이미 반영됨
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("컨텐츠 필터 색인 구성 실패 - error: {}", e.getMessage());
+            return;
+        }
+
+        // 재구성 조회 이후에 커밋되었을 수 있는 갱신을 새 색인에 다시 반영
+        changed.forEach(this::refresh);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 필터 조건에 맞는 컨텐츠 ID 집합을 계산합니다.
+     * 같은 종류의 ID끼리는 OR, 카테고리와 바디타입 사이는 AND이며, null인 조건은 적용하지 않습니다.
+     */
+    public BitSet resolve(List<Integer> categoryIds, List<Integer> bodyTypeIds) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            if (categoryIds != null) {
+                result = union(byCategory, categoryIds);
+            }
+            if (bodyTypeIds != null) {
+                BitSet bodyTypes = union(byBodyType, bodyTypeIds);
+                if (result == null) {
+                    result = bodyTypes;
+                } else {
+                    result.and(bodyTypes);
+                }
+            }
+            return result != null ? result : new BitSet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 컨텐츠의 카테고리/바디타입을 반영하고 다른 서버에 알립니다. (트랜잭션 커밋 후 적용)
+     */
+    public void put(Integer contentId, Collection<Integer> categoryIds, Collection<Integer> bodyTypeIds) {
+        List<Integer> categories = List.copyOf(categoryIds);
+        List<Integer> bodyTypes = List.copyOf(bodyTypeIds);
+        TransactionHooks.runAfterCommit(() -> {
+            apply(contentId, categories, bodyTypes);
+            publish(contentId);
+        });
+    }
+
+    /**
+     * 삭제된 컨텐츠를 색인에서 제거하고 다른 서버에 알립니다. (트랜잭션 커밋 후 적용)
+     */
+    public void remove(Integer contentId) {
+        TransactionHooks.runAfterCommit(() -> {
+            apply(contentId, List.of(), List.of());
+            publish(contentId);
+        });
+    }
+
+    // 다른 서버(또는 이 서버)에서 발행한 갱신 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            refresh(Integer.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 컨텐츠 필터 색인 갱신 메시지 - body: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // DB에 커밋된 카테고리/바디타입으로 한 컨텐츠를 다시 반영 (삭제된 컨텐츠는 빈 목록이 되어 제거됨)
+    private void refresh(Integer contentId) {
+        try {
+            apply(contentId,
+                    contentRepository.findCategoryIdsByContentId(contentId),
+                    contentRepository.findBodyTypeIdsByContentId(contentId));
+        } catch (Exception e) {
+            log.warn("컨텐츠 필터 색인 갱신 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+        }
+    }
+
+    private void apply(Integer contentId, Collection<Integer> categoryIds, Collection<Integer> bodyTypeIds) {
+        lock.writeLock().lock();
+        try {
+            clear(contentId);
+            categoryIds.forEach(id -> byCategory.computeIfAbsent(id, k -> new BitSet()).set(contentId));
+            bodyTypeIds.forEach(id -> byBodyType.computeIfAbsent(id, k -> new BitSet()).set(contentId));
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(contentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(Integer contentId) {
+        try {
+            stringRedisTemplate.convertAndSend(UPDATE_CHANNEL, String.valueOf(contentId));
+        } catch (Exception e) {
+            log.warn("컨텐츠 필터 색인 갱신 알림 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+        }
+    }
+
+    private void clear(Integer contentId) {
+        byCategory.values().forEach(bits -> bits.clear(contentId));
+        byBodyType.values().forEach(bits -> bits.clear(contentId));
+    }
+
+    private BitSet union(Map<Integer, BitSet> bitmaps, List<Integer> ids) {
+        BitSet result = new BitSet();
+        for (Integer id : ids) {
+            BitSet bits = bitmaps.get(id);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private Map<Integer, BitSet> toBitmaps(List<Object[]> pairs) {
+        Map<Integer, BitSet> bitmaps = new HashMap<>();
+        for (Object[] pair : pairs) {
+            bitmaps.computeIfAbsent((Integer) pair[1], k -> new BitSet()).set((Integer) pair[0]);
+        }
+        return bitmaps;
+    }
+}
@@ -0,0 +1,65 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ImageVariantsDto;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentImageVariantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 응답 DTO에 이미지 파생본 URL을 채웁니다.
+ * 생성이 끝난 원본만 파생본 URL을 내려주며, 응답 하나(목록이면 페이지 전체)의 이미지를 한 번의 쿼리로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentImageVariantResolver {
+
+    private final ContentImageVariantRepository contentImageVariantRepository;
+
+    public void fillListDtos(List<ContentListResponseDto> dtos) {
+        Set<String> ready = readyOf(dtos.stream().map(ContentListResponseDto::getMainImgUrl).toList());
+        for (ContentListResponseDto dto : dtos) {
+            dto.setMainImgVariants(variantsOf(dto.getMainImgUrl(), ready));
+        }
+    }
+
+    public void fillDetailDto(ContentDetailResponseDto dto) {
+        Set<String> urls = new HashSet<>();
+        urls.add(dto.getMainImgUrl());
+        if (dto.getBlocks() != null) {
+            for (ContentDetailResponseDto.ContentBlockDto block : dto.getBlocks()) {
+                if (block.getImages() != null) {
+                    block.getImages().forEach(image -> urls.add(image.getImageUrl()));
+                }
+            }
+        }
+        Set<String> ready = readyOf(urls);
+        dto.setMainImgVariants(variantsOf(dto.getMainImgUrl(), ready));
+        if (dto.getBlocks() != null) {
+            for (ContentDetailResponseDto.ContentBlockDto block : dto.getBlocks()) {
+                if (block.getImages() != null) {
+                    block.getImages().forEach(image -> image.setVariants(variantsOf(image.getImageUrl(), ready)));
+                }
+            }
+        }
+    }
+
+    private Set<String> readyOf(Collection<String> urls) {
+        List<String> candidates = urls.stream().filter(Objects::nonNull).distinct().toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(contentImageVariantRepository.findReadySourceUrls(candidates));
+    }
+
+    private ImageVariantsDto variantsOf(String imageUrl, Set<String> ready) {
+        return imageUrl != null && ready.contains(imageUrl) ? ImageVariantsDto.of(imageUrl) : null;
+    }
+}
@@ -20,6 +20,7 @@ public class ContentLikeServiceImpl implements ContentLikeService {
     private final ContentLikeRepository contentLikeRepository;
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
+    private final ContentStatsBuffer contentStatsBuffer;
 
     @Override
     @Transactional
@@ -50,6 +51,7 @@ public class ContentLikeServiceImpl implements ContentLikeService {
         
         try {
             ContentLike savedLike = contentLikeRepository.save(like);
+            contentStatsBuffer.recordLike(contentId, 1);
             
             // DTO 변환하여 반환
             return LikeResponseDto.builder()
@@ -88,6 +90,7 @@ public class ContentLikeServiceImpl implements ContentLikeService {
         // 좋아요 삭제
         try {
             contentLikeRepository.delete(like);
+            contentStatsBuffer.recordLike(contentId, -1);
         } catch (Exception e) {
             throw new RestApiException(ContentErrorStatus.LIKE_REMOVE_FAILED);
         }
@@ -1,5 +1,6 @@
 package com.yourmode.yourmodebackend.domain.content.service;
 
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentCursorResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,9 @@ import java.util.List;
 public interface ContentQueryService {
     Page<ContentListResponseDto> getContents(List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable);
     ContentDetailResponseDto getContentDetail(Integer contentId);
+
+    // 컨텐츠 상세 응답 JSON (스냅샷에 카운트를 붙여 그대로 반환)
+    String getContentDetailJson(Integer contentId);
     
     // 내 컨텐츠 목록 조회 (특정 사용자가 요청한 ContentRequest에 대응하는 컨텐츠)
     Page<ContentListResponseDto> getMyContents(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable);
@@ -25,6 +29,14 @@ public interface ContentQueryService {
     
     // 사용자가 좋아요한 컨텐츠 목록 조회
     Page<ContentListResponseDto> getContentsByUserLikes(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable);
+
+    // 커서 기반 목록 조회 (무한 스크롤용, 전체 개수 없이 nextCursor 반환)
+    ContentCursorResponseDto getContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
+    ContentCursorResponseDto getMyContentsByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
+    ContentCursorResponseDto getEditorContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
+    ContentCursorResponseDto getCustomContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
+    ContentCursorResponseDto getContentsByUserCommentsByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
+    ContentCursorResponseDto getContentsByUserLikesByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size);
 }
 
 
@@ -1,51 +1,115 @@
 package com.yourmode.yourmodebackend.domain.content.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentCursorResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
 import com.yourmode.yourmodebackend.domain.content.entity.Content;
+import com.yourmode.yourmodebackend.domain.content.entity.ContentBlock;
 import com.yourmode.yourmodebackend.domain.content.repository.ContentRepository;
-import com.yourmode.yourmodebackend.domain.content.repository.ContentLikeRepository;
-import com.yourmode.yourmodebackend.domain.content.repository.ContentCommentRepository;
-import com.yourmode.yourmodebackend.domain.content.repository.ContentViewRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentSnapshotRepository;
 import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
+import com.yourmode.yourmodebackend.domain.content.util.ContentCursor;
+import com.yourmode.yourmodebackend.domain.content.util.ContentDetailMapper;
 import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContentQueryServiceImpl implements ContentQueryService {
 
     private final ContentRepository contentRepository;
-    private final ContentLikeRepository contentLikeRepository;
-    private final ContentCommentRepository contentCommentRepository;
-    private final ContentViewRepository contentViewRepository;
+    private final ContentCountLoader contentCountLoader;
+    private final ContentFilterIndex contentFilterIndex;
+    private final ContentDetailCache contentDetailCache;
+    private final ContentSnapshotRepository contentSnapshotRepository;
+    private final ContentSnapshotRenderer contentSnapshotRenderer;
+    private final ContentImageVariantResolver contentImageVariantResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${content.filter-index.max-candidates:5000}")
+    private int maxIndexCandidates;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
     @Override
     public Page<ContentListResponseDto> getContents(List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable) {
-        Page<Content> page;
-        
-        // 둘 다 null이거나 빈 리스트인 경우 전체 조회
-        if ((categoryIds == null || categoryIds.isEmpty()) && (bodyTypeIds == null || bodyTypeIds.isEmpty())) {
-            page = contentRepository.findAll(pageable);
-        } else {
-            // 복합 조건 검색
-            page = contentRepository.findByCategoryIdsAndBodyTypeIds(categoryIds, bodyTypeIds, pageable);
+        categoryIds = emptyToNull(categoryIds);
+        bodyTypeIds = emptyToNull(bodyTypeIds);
+
+        // 필터가 있으면 메모리 색인으로 후보 ID를 먼저 계산 (후보가 너무 많으면 DB 필터 쿼리 사용)
+        if ((categoryIds != null || bodyTypeIds != null) && contentFilterIndex.isReady()) {
+            BitSet candidates = contentFilterIndex.resolve(categoryIds, bodyTypeIds);
+            int total = candidates.cardinality();
+            if (total == 0) {
+                return Page.empty(pageable);
+            }
+            if (total <= maxIndexCandidates) {
+                List<Integer> ids = contentRepository.findIdsByIdIn(candidates.stream().boxed().toList(), pageable);
+                return toListDtoPage(new PageImpl<>(ids, pageable, total));
+            }
         }
-        
-        return page.map(this::toListDto);
+
+        // 필터가 비어 있으면 조건 없이 전체 조회
+        Page<Integer> page = contentRepository.findIdsByCategoryIdsAndBodyTypeIds(categoryIds, bodyTypeIds, pageable);
+        return toListDtoPage(page);
     }
 
     @Override
     public ContentDetailResponseDto getContentDetail(Integer contentId) {
-        Content content = contentRepository.findById(contentId)
+        try {
+            return objectMapper.readValue(getContentDetailJson(contentId), ContentDetailResponseDto.class);
+        } catch (JsonProcessingException e) {
+            // 직접 만든 스냅샷을 읽지 못한 것이므로 서버 오류로 처리
+            log.error("컨텐츠 상세 스냅샷 역직렬화 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            throw new RestApiException(ContentErrorStatus.SNAPSHOT_READ_FAILED);
+        }
+    }
+
+    @Override
+    public String getContentDetailJson(Integer contentId) {
+        String snapshot = contentDetailCache.get(contentId);
+        if (snapshot == null) {
+            long stamp = contentDetailCache.stamp();
+            snapshot = transactionTemplate.execute(status -> {
+                String body = contentSnapshotRepository.findBodyByContentId(contentId);
+                // 스냅샷이 없는 기존 컨텐츠는 엔티티로 조립해 스냅샷을 만들어 둠
+                return body != null ? body : contentSnapshotRenderer.saveIfAbsent(contentId, loadDetailDto(contentId));
+            });
+            contentDetailCache.put(contentId, snapshot, stamp);
+        }
+        return contentSnapshotRenderer.withCounts(snapshot, contentCountLoader.load(contentId));
+    }
+
+    /**
+     * 컨텐츠+카테고리+바디타입 1회, 블록+스타일+이미지 1회로 블록 수와 관계없이 2개의 쿼리로 로딩합니다. (트랜잭션 안에서 호출)
+     */
+    private ContentDetailResponseDto loadDetailDto(Integer contentId) {
+        Content content = contentRepository.findAllWithCategoriesAndBodyTypesByIdIn(List.of(contentId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new RestApiException(ContentErrorStatus.CONTENT_NOT_FOUND));
-        return toDetailDto(content);
+        List<ContentBlock> blocks = contentRepository.findBlockTreeByContentId(contentId);
+        ContentDetailResponseDto dto = ContentDetailMapper.toDetailDto(content, blocks);
+        contentImageVariantResolver.fillDetailDto(dto);
+        return dto;
     }
 
     @Override
@@ -54,20 +118,20 @@ public class ContentQueryServiceImpl implements ContentQueryService {
             throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
         }
         
-        Page<Content> page = contentRepository.findByUserIdAndCategoryIdsAndBodyTypeIds(userId, categoryIds, bodyTypeIds, pageable);
-        return page.map(this::toListDto);
+        Page<Integer> page = contentRepository.findIdsByUserIdAndCategoryIdsAndBodyTypeIds(userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), pageable);
+        return toListDtoPage(page);
     }
 
     @Override
     public Page<ContentListResponseDto> getEditorContents(List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable) {
-        Page<Content> page = contentRepository.findEditorContentsByCategoryIdsAndBodyTypeIds(categoryIds, bodyTypeIds, pageable);
-        return page.map(this::toListDto);
+        Page<Integer> page = contentRepository.findEditorContentIdsByCategoryIdsAndBodyTypeIds(emptyToNull(categoryIds), emptyToNull(bodyTypeIds), pageable);
+        return toListDtoPage(page);
     }
 
     @Override
     public Page<ContentListResponseDto> getCustomContents(List<Integer> categoryIds, List<Integer> bodyTypeIds, Pageable pageable) {
-        Page<Content> page = contentRepository.findCustomContentsByCategoryIdsAndBodyTypeIds(categoryIds, bodyTypeIds, pageable);
-        return page.map(this::toListDto);
+        Page<Integer> page = contentRepository.findCustomContentIdsByCategoryIdsAndBodyTypeIds(emptyToNull(categoryIds), emptyToNull(bodyTypeIds), pageable);
+        return toListDtoPage(page);
     }
 
     @Override
@@ -76,8 +140,8 @@ public class ContentQueryServiceImpl implements ContentQueryService {
             throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
         }
         
-        Page<Content> page = contentRepository.findContentsByUserComments(userId, categoryIds, bodyTypeIds, pageable);
-        return page.map(this::toListDto);
+        Page<Integer> page = contentRepository.findContentIdsByUserComments(userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), pageable);
+        return toListDtoPage(page);
     }
 
     @Override
@@ -86,8 +150,115 @@ public class ContentQueryServiceImpl implements ContentQueryService {
             throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
         }
         
-        Page<Content> page = contentRepository.findContentsByUserLikes(userId, categoryIds, bodyTypeIds, pageable);
-        return page.map(this::toListDto);
+        Page<Integer> page = contentRepository.findContentIdsByUserLikes(userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), pageable);
+        return toListDtoPage(page);
+    }
+
+    @Override
+    public ContentCursorResponseDto getContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findIdsByCursor(
+                emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    @Override
+    public ContentCursorResponseDto getMyContentsByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        if (userId == null) {
+            throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
+        }
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findIdsByUserIdByCursor(
+                userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    @Override
+    public ContentCursorResponseDto getEditorContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findEditorContentIdsByCursor(
+                emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    @Override
+    public ContentCursorResponseDto getCustomContentsByCursor(List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findCustomContentIdsByCursor(
+                emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    @Override
+    public ContentCursorResponseDto getContentsByUserCommentsByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        if (userId == null) {
+            throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
+        }
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findContentIdsByUserCommentsByCursor(
+                userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    @Override
+    public ContentCursorResponseDto getContentsByUserLikesByCursor(Integer userId, List<Integer> categoryIds, List<Integer> bodyTypeIds, String cursor, int size) {
+        if (userId == null) {
+            throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
+        }
+        ContentCursor c = ContentCursor.decode(cursor);
+        return toCursorResponse(contentRepository.findContentIdsByUserLikesByCursor(
+                userId, emptyToNull(categoryIds), emptyToNull(bodyTypeIds), c.createdAt(), c.id(), limitOf(size)), size);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 요청 크기보다 한 건 더 조회합니다.
+     */
+    private PageRequest limitOf(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new RestApiException(ContentErrorStatus.INVALID_CONTENT_PARAMETER);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    private ContentCursorResponseDto toCursorResponse(List<Integer> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<Content> pageContents = loadInOrder(hasNext ? ids.subList(0, size) : ids);
+        List<ContentListResponseDto> dtos = pageContents.stream()
+                .map(this::toListDto)
+                .collect(Collectors.toList());
+        contentCountLoader.fillListDtos(dtos);
+        contentImageVariantResolver.fillListDtos(dtos);
+        return ContentCursorResponseDto.builder()
+                .contents(dtos)
+                .nextCursor(hasNext ? ContentCursor.of(pageContents.get(pageContents.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<Integer> emptyToNull(List<Integer> ids) {
+        return ids == null || ids.isEmpty() ? null : ids;
+    }
+
+    /**
+     * ID 페이지의 컨텐츠를 로딩해 DTO로 변환하고, 카운트는 페이지 전체를 한 번에 조회해 채웁니다.
+     */
+    private Page<ContentListResponseDto> toListDtoPage(Page<Integer> page) {
+        List<ContentListResponseDto> dtos = loadInOrder(page.getContent()).stream()
+                .map(this::toListDto)
+                .collect(Collectors.toList());
+        contentCountLoader.fillListDtos(dtos);
+        contentImageVariantResolver.fillListDtos(dtos);
+        return new PageImpl<>(dtos, page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * ID 목록의 컨텐츠를 카테고리/바디타입과 함께 한 번의 쿼리로 로딩하고 ID 목록의 순서를 복원합니다.
+     */
+    private List<Content> loadInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Content> byId = contentRepository.findAllWithCategoriesAndBodyTypesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Content::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     private ContentListResponseDto toListDto(Content content) {
@@ -115,100 +286,7 @@ public class ContentQueryServiceImpl implements ContentQueryService {
                 return b;
             }).collect(Collectors.toList()));
         }
-        
-        // 좋아요 수, 댓글 수, 조회수 추가
-        dto.setLikeCount(getLikeCount(content.getId()));
-        dto.setCommentCount(getCommentCount(content.getId()));
-        dto.setViewCount(getViewCount(content.getId()));
-        
-        return dto;
-    }
 
-    private ContentDetailResponseDto toDetailDto(Content content) {
-        // 재사용을 위해 ContentServiceImpl의 변환 로직을 간단히 복사
-        ContentDetailResponseDto dto = new ContentDetailResponseDto();
-        dto.setId(content.getId());
-        dto.setTitle(content.getTitle());
-        dto.setMainImgUrl(content.getMainImgUrl());
-        dto.setRecommended(content.isRecommended());
-        dto.setPublishAt(content.getPublishAt());
-        dto.setCreatedAt(content.getCreatedAt());
-        dto.setEditedAt(content.getEditedAt());
-        if (content.getContentCategories() != null) {
-            dto.setCategories(content.getContentCategories().stream().map(cat -> {
-                ContentDetailResponseDto.CategoryDto c = new ContentDetailResponseDto.CategoryDto();
-                c.setId(cat.getId());
-                c.setName(cat.getName());
-                return c;
-            }).collect(Collectors.toList()));
-        }
-        if (content.getBodyTypes() != null) {
-            dto.setBodyTypes(content.getBodyTypes().stream().map(bt -> {
-                ContentDetailResponseDto.BodyTypeDto b = new ContentDetailResponseDto.BodyTypeDto();
-                b.setId(bt.getId());
-                b.setName(bt.getName());
-                return b;
-            }).collect(Collectors.toList()));
-        }
-        if (content.getContentBlocks() != null) {
-            dto.setBlocks(content.getContentBlocks().stream().map(block -> {
-                ContentDetailResponseDto.ContentBlockDto b = new ContentDetailResponseDto.ContentBlockDto();
-                b.setBlockType(block.getBlockType());
-                b.setContentData(block.getContentData());
-                b.setBlockOrder(block.getBlockOrder());
-                if (block.getContentBlockStyle() != null) {
-                    ContentDetailResponseDto.ContentBlockStyleDto style = new ContentDetailResponseDto.ContentBlockStyleDto();
-                    style.setFontFamily(block.getContentBlockStyle().getFontFamily());
-                    style.setFontSize(block.getContentBlockStyle().getFontSize());
-                    style.setFontWeight(block.getContentBlockStyle().getFontWeight());
-                    style.setTextColor(block.getContentBlockStyle().getTextColor());
-                    style.setBackgroundColor(block.getContentBlockStyle().getBackgroundColor());
-                    style.setTextAlign(block.getContentBlockStyle().getTextAlign());
-                    b.setStyle(style);
-                }
-                if (block.getImages() != null) {
-                    b.setImages(block.getImages().stream().map(img -> {
-                        ContentDetailResponseDto.ContentBlockImageDto i = new ContentDetailResponseDto.ContentBlockImageDto();
-                        i.setImageUrl(img.getImageUrl());
-                        i.setImageOrder(img.getImageOrder());
-                        return i;
-                    }).collect(Collectors.toList()));
-                }
-                return b;
-            }).collect(Collectors.toList()));
-        }
-        
-        // 좋아요 수, 댓글 수, 조회수 추가
-        dto.setLikeCount(getLikeCount(content.getId()));
-        dto.setCommentCount(getCommentCount(content.getId()));
-        dto.setViewCount(getViewCount(content.getId()));
-        
         return dto;
     }
-
-    /**
-     * 콘텐츠의 좋아요 수를 조회합니다.
-     */
-    private Long getLikeCount(Integer contentId) {
-        Long count = contentLikeRepository.countByContentId(contentId);
-        return count != null ? count : 0L;
-    }
-
-    /**
-     * 콘텐츠의 댓글 수를 조회합니다.
-     */
-    private Long getCommentCount(Integer contentId) {
-        Long count = contentCommentRepository.countByContentId(contentId);
-        return count != null ? count : 0L;
-    }
-
-    /**
-     * 콘텐츠의 조회수를 조회합니다.
-     */
-    private Long getViewCount(Integer contentId) {
-        Long count = contentViewRepository.countByContentId(contentId);
-        return count != null ? count : 0L;
-    }
 }
-
-
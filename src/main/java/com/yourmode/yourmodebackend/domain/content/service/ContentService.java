@@ -2,13 +2,14 @@ package com.yourmode.yourmodebackend.domain.content.service;
 
 import com.yourmode.yourmodebackend.domain.content.dto.request.ContentCreateRequestDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
-import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
-import java.util.List;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface ContentService {
     ContentDetailResponseDto createContent(ContentCreateRequestDto dto, Integer editorId);
     ContentDetailResponseDto updateContent(Integer contentId, ContentCreateRequestDto dto, Integer editorId);
     ContentDetailResponseDto getContentDetail(Integer contentId);
-    List<ContentListResponseDto> getAllContents();
+    void streamAllContents(OutputStream out) throws IOException;
     void deleteContent(Integer contentId, Integer editorId);
 }
\ No newline at end of file
@@ -3,39 +3,70 @@ package com.yourmode.yourmodebackend.domain.content.service;
 import com.yourmode.yourmodebackend.domain.content.dto.request.ContentCreateRequestDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentListResponseDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ImageVariantsDto;
 import com.yourmode.yourmodebackend.domain.content.entity.Content;
 import com.yourmode.yourmodebackend.domain.content.entity.ContentBlock;
 import com.yourmode.yourmodebackend.domain.content.entity.ContentBlockImage;
 import com.yourmode.yourmodebackend.domain.content.entity.ContentBlockStyle;
 import com.yourmode.yourmodebackend.domain.content.entity.ContentCategory;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentBlockBulkRepository;
 import com.yourmode.yourmodebackend.domain.content.repository.ContentCategoryRepository;
 import com.yourmode.yourmodebackend.domain.content.repository.ContentRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentSnapshotRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentStatsRepository;
+import com.yourmode.yourmodebackend.domain.content.util.ContentDetailMapper;
 import com.yourmode.yourmodebackend.domain.user.entity.BodyType;
 import com.yourmode.yourmodebackend.domain.user.repository.BodyTypeRepository;
 import com.yourmode.yourmodebackend.domain.request.entity.ContentRequest;
 import com.yourmode.yourmodebackend.domain.request.repository.ContentRequestRepository;
 import com.yourmode.yourmodebackend.domain.user.entity.User;
 import com.yourmode.yourmodebackend.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
 import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
-import com.yourmode.yourmodebackend.domain.content.dto.request.s3.FileDeleteRequestDto;
 
 @Service
 @RequiredArgsConstructor
 public class ContentServiceImpl implements ContentService {
     private final ContentRepository contentRepository;
+    private final ContentBlockBulkRepository contentBlockBulkRepository;
     private final UserRepository userRepository;
     private final ContentCategoryRepository contentCategoryRepository;
     private final BodyTypeRepository bodyTypeRepository;
     private final ContentRequestRepository contentRequestRepository;
     private final S3Service s3Service;
+    private final ContentStatsRepository contentStatsRepository;
+    private final ContentStatsBuffer contentStatsBuffer;
+    private final ContentFilterIndex contentFilterIndex;
+    private final ContentDetailCache contentDetailCache;
+    private final ContentSnapshotRenderer contentSnapshotRenderer;
+    private final ContentSnapshotRepository contentSnapshotRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ContentImageVariantResolver contentImageVariantResolver;
+    private final ObjectMapper objectMapper;
+
+    private static final int STREAM_FLUSH_SIZE = 100;
     // TODO: ContentCategoryRepository 또는 EntityManager 주입 필요(임시 null 처리)
 
     @Override
@@ -80,108 +111,66 @@ public class ContentServiceImpl implements ContentService {
             content.setContentCategories(new HashSet<>());
         }
 
-        // ContentBlock 매핑
-        if (dto.getBlocks() != null) {
-            ArrayList<ContentBlock> blockEntities = new ArrayList<>();
-            for (ContentCreateRequestDto.ContentBlockDto blockDto : dto.getBlocks()) {
-                ContentBlock block = new ContentBlock();
-                block.setBlockType(blockDto.getBlockType());
-                block.setContentData(blockDto.getContentData());
-                block.setBlockOrder(blockDto.getBlockOrder());
-                block.setContent(content);
+        Content saved = contentRepository.save(content);
 
-                // 스타일 매핑
-                if (blockDto.getStyle() != null) {
-                    ContentBlockStyle style = new ContentBlockStyle();
-                    style.setFontFamily(blockDto.getStyle().getFontFamily());
-                    style.setFontSize(blockDto.getStyle().getFontSize());
-                    style.setFontWeight(blockDto.getStyle().getFontWeight());
-                    style.setTextColor(blockDto.getStyle().getTextColor());
-                    style.setBackgroundColor(blockDto.getStyle().getBackgroundColor());
-                    style.setTextAlign(blockDto.getStyle().getTextAlign());
-                    style.setContentBlock(block);
-                    block.setContentBlockStyle(style);
-                }
+        // 블록 트리는 테이블별 다중 행 INSERT로 저장하고, 응답의 블록은 요청 값으로 구성
+        List<Integer> blockIds = contentBlockBulkRepository.insertBlocks(saved.getId(), dto.getBlocks());
+        updateFilterIndex(saved);
+        ContentDetailResponseDto response = ContentDetailMapper.toDetailDto(saved, saved.getContentBlocks());
+        response.setBlocks(toBlockDtos(dto.getBlocks(), blockIds));
+        contentImageVariantResolver.fillDetailDto(response);
+        contentSnapshotRenderer.save(saved.getId(), response);
+        imageVariantGenerator.generate(saved.getId(), imageUrlsOf(dto));
+        return response;
+    }
 
-                // 이미지 매핑
-                if (blockDto.getImages() != null) {
-                    ArrayList<ContentBlockImage> imageEntities = new ArrayList<>();
-                    for (ContentCreateRequestDto.ContentBlockImageDto imageDto : blockDto.getImages()) {
-                        ContentBlockImage image = new ContentBlockImage();
-                        image.setImageUrl(imageDto.getImageUrl());
-                        image.setImageOrder(imageDto.getImageOrder());
-                        image.setContentBlock(block);
-                        imageEntities.add(image);
-                    }
-                    block.setImages(imageEntities);
+    // 요청에 포함된 대표 이미지와 블록 이미지 URL
+    private List<String> imageUrlsOf(ContentCreateRequestDto dto) {
+        List<String> imageUrls = new ArrayList<>();
+        imageUrls.add(dto.getMainImgUrl());
+        if (dto.getBlocks() != null) {
+            for (ContentCreateRequestDto.ContentBlockDto block : dto.getBlocks()) {
+                if (block.getImages() != null) {
+                    block.getImages().forEach(image -> imageUrls.add(image.getImageUrl()));
                 }
-                blockEntities.add(block);
             }
-            content.setContentBlocks(blockEntities);
         }
-
-        Content saved = contentRepository.save(content);
-        return toDetailDto(saved);
+        return imageUrls;
     }
 
-    private ContentDetailResponseDto toDetailDto(Content content) {
-        ContentDetailResponseDto dto = new ContentDetailResponseDto();
-        dto.setId(content.getId());
-        dto.setTitle(content.getTitle());
-        dto.setMainImgUrl(content.getMainImgUrl());
-        dto.setRecommended(content.isRecommended());
-        dto.setPublishAt(content.getPublishAt());
-        dto.setCreatedAt(content.getCreatedAt());
-        dto.setEditedAt(content.getEditedAt());
-        // 카테고리 매핑
-        if (content.getContentCategories() != null) {
-            dto.setCategories(content.getContentCategories().stream().map(cat -> {
-                ContentDetailResponseDto.CategoryDto c = new ContentDetailResponseDto.CategoryDto();
-                c.setId(cat.getId());
-                c.setName(cat.getName());
-                return c;
-            }).collect(Collectors.toList()));
-        }
-        // 바디타입 매핑
-        if (content.getBodyTypes() != null) {
-            dto.setBodyTypes(content.getBodyTypes().stream().map(bt -> {
-                ContentDetailResponseDto.BodyTypeDto b = new ContentDetailResponseDto.BodyTypeDto();
-                b.setId(bt.getId());
-                b.setName(bt.getName());
-                return b;
-            }).collect(Collectors.toList()));
-        }
-        // 블록 매핑
-        if (content.getContentBlocks() != null) {
-            dto.setBlocks(content.getContentBlocks().stream().map(block -> {
-                ContentDetailResponseDto.ContentBlockDto b = new ContentDetailResponseDto.ContentBlockDto();
-                b.setBlockType(block.getBlockType());
-                b.setContentData(block.getContentData());
-                b.setBlockOrder(block.getBlockOrder());
-                // 스타일
-                if (block.getContentBlockStyle() != null) {
-                    ContentDetailResponseDto.ContentBlockStyleDto style = new ContentDetailResponseDto.ContentBlockStyleDto();
-                    style.setFontFamily(block.getContentBlockStyle().getFontFamily());
-                    style.setFontSize(block.getContentBlockStyle().getFontSize());
-                    style.setFontWeight(block.getContentBlockStyle().getFontWeight());
-                    style.setTextColor(block.getContentBlockStyle().getTextColor());
-                    style.setBackgroundColor(block.getContentBlockStyle().getBackgroundColor());
-                    style.setTextAlign(block.getContentBlockStyle().getTextAlign());
-                    b.setStyle(style);
-                }
-                // 이미지
-                if (block.getImages() != null) {
-                    b.setImages(block.getImages().stream().map(img -> {
-                        ContentDetailResponseDto.ContentBlockImageDto i = new ContentDetailResponseDto.ContentBlockImageDto();
-                        i.setImageUrl(img.getImageUrl());
-                        i.setImageOrder(img.getImageOrder());
-                        return i;
-                    }).collect(Collectors.toList()));
-                }
-                return b;
-            }).collect(Collectors.toList()));
+    private List<ContentDetailResponseDto.ContentBlockDto> toBlockDtos(List<ContentCreateRequestDto.ContentBlockDto> blocks, List<Integer> blockIds) {
+        List<ContentDetailResponseDto.ContentBlockDto> result = new ArrayList<>();
+        if (blocks == null) {
+            return result;
         }
-        return dto;
+        for (int index = 0; index < blocks.size(); index++) {
+            ContentCreateRequestDto.ContentBlockDto blockDto = blocks.get(index);
+            ContentDetailResponseDto.ContentBlockDto b = new ContentDetailResponseDto.ContentBlockDto();
+            b.setBlockId(blockIds.get(index));
+            b.setBlockType(blockDto.getBlockType());
+            b.setContentData(blockDto.getContentData());
+            b.setBlockOrder(blockDto.getBlockOrder());
+            if (blockDto.getStyle() != null) {
+                ContentDetailResponseDto.ContentBlockStyleDto style = new ContentDetailResponseDto.ContentBlockStyleDto();
+                style.setFontFamily(blockDto.getStyle().getFontFamily());
+                style.setFontSize(blockDto.getStyle().getFontSize());
+                style.setFontWeight(blockDto.getStyle().getFontWeight());
+                style.setTextColor(blockDto.getStyle().getTextColor());
+                style.setBackgroundColor(blockDto.getStyle().getBackgroundColor());
+                style.setTextAlign(blockDto.getStyle().getTextAlign());
+                b.setStyle(style);
+            }
+            if (blockDto.getImages() != null) {
+                b.setImages(blockDto.getImages().stream().map(imageDto -> {
+                    ContentDetailResponseDto.ContentBlockImageDto i = new ContentDetailResponseDto.ContentBlockImageDto();
+                    i.setImageUrl(imageDto.getImageUrl());
+                    i.setImageOrder(imageDto.getImageOrder());
+                    return i;
+                }).collect(Collectors.toList()));
+            }
+            result.add(b);
+        }
+        return result;
     }
 
     @Override
@@ -211,61 +200,27 @@ public class ContentServiceImpl implements ContentService {
             content.setContentRequest(null);
         }
 
-        // BodyType 매핑
-        if (dto.getBodyTypeIds() != null && !dto.getBodyTypeIds().isEmpty()) {
-            content.setBodyTypes(new HashSet<>(bodyTypeRepository.findAllById(dto.getBodyTypeIds())));
-        } else {
-            content.setBodyTypes(new HashSet<>());
+        // BodyType / 카테고리는 ID 집합이 바뀐 경우에만 교체 (조인 테이블 전체 재작성 방지)
+        List<Integer> bodyTypeIds = dto.getBodyTypeIds() != null ? dto.getBodyTypeIds() : List.of();
+        if (!idsOf(content.getBodyTypes(), BodyType::getId).equals(new HashSet<>(bodyTypeIds))) {
+            content.setBodyTypes(new HashSet<>(bodyTypeRepository.findAllById(bodyTypeIds)));
         }
-
-        // 카테고리 매핑
-        if (dto.getCategoryIds() != null && !dto.getCategoryIds().isEmpty()) {
-            content.setContentCategories(new HashSet<>(contentCategoryRepository.findAllById(dto.getCategoryIds())));
-        } else {
-            content.setContentCategories(new HashSet<>());
+        List<Integer> categoryIds = dto.getCategoryIds() != null ? dto.getCategoryIds() : List.of();
+        if (!idsOf(content.getContentCategories(), ContentCategory::getId).equals(new HashSet<>(categoryIds))) {
+            content.setContentCategories(new HashSet<>(contentCategoryRepository.findAllById(categoryIds)));
         }
 
-        // ContentBlock(블록) 전체 삭제 후 재생성 (안전한 방식)
-        ArrayList<ContentBlock> newBlocks = new ArrayList<>();
-        if (dto.getBlocks() != null) {
-            for (ContentCreateRequestDto.ContentBlockDto blockDto : dto.getBlocks()) {
-                ContentBlock block = new ContentBlock();
-                block.setBlockType(blockDto.getBlockType());
-                block.setContentData(blockDto.getContentData());
-                block.setBlockOrder(blockDto.getBlockOrder());
-                block.setContent(content);
-
-                // 스타일 매핑
-                if (blockDto.getStyle() != null) {
-                    ContentBlockStyle style = new ContentBlockStyle();
-                    style.setFontFamily(blockDto.getStyle().getFontFamily());
-                    style.setFontSize(blockDto.getStyle().getFontSize());
-                    style.setFontWeight(blockDto.getStyle().getFontWeight());
-                    style.setTextColor(blockDto.getStyle().getTextColor());
-                    style.setBackgroundColor(blockDto.getStyle().getBackgroundColor());
-                    style.setTextAlign(blockDto.getStyle().getTextAlign());
-                    style.setContentBlock(block);
-                    block.setContentBlockStyle(style);
-                }
-
-                // 이미지 매핑
-                if (blockDto.getImages() != null) {
-                    ArrayList<ContentBlockImage> imageEntities = new ArrayList<>();
-                    for (ContentCreateRequestDto.ContentBlockImageDto imageDto : blockDto.getImages()) {
-                        ContentBlockImage image = new ContentBlockImage();
-                        image.setImageUrl(imageDto.getImageUrl());
-                        image.setImageOrder(imageDto.getImageOrder());
-                        image.setContentBlock(block);
-                        imageEntities.add(image);
-                    }
-                    block.setImages(imageEntities);
-                }
-                newBlocks.add(block);
-            }
-        }
-        content.setContentBlocks(newBlocks);
-        Content saved = contentRepository.save(content);
-        return toDetailDto(saved);
+        // 블록은 기존 블록과 비교해 바뀐 블록만 수정/추가/삭제
+        applyBlockDiff(content, dto.getBlocks() != null ? dto.getBlocks() : List.of());
+        // 새 블록 ID를 응답에 담기 위해 flush
+        Content saved = contentRepository.saveAndFlush(content);
+        updateFilterIndex(saved);
+        ContentDetailResponseDto response = ContentDetailMapper.toDetailDto(saved, saved.getContentBlocks());
+        contentImageVariantResolver.fillDetailDto(response);
+        contentSnapshotRenderer.save(contentId, response);
+        contentDetailCache.evict(contentId);
+        imageVariantGenerator.generate(contentId, imageUrlsOf(dto));
+        return response;
     }
 
     @Override
@@ -273,41 +228,82 @@ public class ContentServiceImpl implements ContentService {
     public ContentDetailResponseDto getContentDetail(Integer contentId) {
         Content content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new RestApiException(ContentErrorStatus.CONTENT_NOT_FOUND));
-        return toDetailDto(content);
+        ContentDetailResponseDto response = ContentDetailMapper.toDetailDto(content, content.getContentBlocks());
+        contentImageVariantResolver.fillDetailDto(response);
+        return response;
     }
 
+    /**
+     * 전체 컨텐츠 목록을 JSON 배열로 스트리밍합니다.
+     * 스칼라 행을 순방향으로 읽으면서 컨텐츠 ID가 바뀔 때마다 한 건씩 출력하므로 컨텐츠 수와 관계없이 메모리 사용량이 일정합니다.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<ContentListResponseDto> getAllContents() {
-        List<Content> contents = contentRepository.findAll();
-        return contents.stream().map(content -> {
-            ContentListResponseDto dto = new ContentListResponseDto();
-            dto.setId(content.getId());
-            dto.setTitle(content.getTitle());
-            dto.setMainImgUrl(content.getMainImgUrl());
-            dto.setRecommended(content.isRecommended());
-            dto.setPublishAt(content.getPublishAt());
-            dto.setCreatedAt(content.getCreatedAt());
-            dto.setEditedAt(content.getEditedAt());
-            if (content.getContentCategories() != null) {
-                dto.setCategories(content.getContentCategories().stream().map(cat -> {
-                    ContentListResponseDto.CategoryDto c = new ContentListResponseDto.CategoryDto();
-                    c.setId(cat.getId());
-                    c.setName(cat.getName());
-                    return c;
-                }).collect(Collectors.toList()));
+    public void streamAllContents(OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = contentRepository.streamAllListRows();
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            Iterator<Object[]> iterator = rows.iterator();
+            ContentListResponseDto current = null;
+            Map<Integer, ContentListResponseDto.CategoryDto> categories = new LinkedHashMap<>();
+            Map<Integer, ContentListResponseDto.BodyTypeDto> bodyTypes = new LinkedHashMap<>();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Integer contentId = (Integer) row[0];
+                if (current == null || !current.getId().equals(contentId)) {
+                    if (current != null) {
+                        writeListRow(generator, current, categories, bodyTypes);
+                        if (++written % STREAM_FLUSH_SIZE == 0) {
+                            generator.flush();
+                        }
+                    }
+                    current = new ContentListResponseDto();
+                    current.setId(contentId);
+                    current.setTitle((String) row[1]);
+                    current.setMainImgUrl((String) row[2]);
+                    current.setRecommended((Boolean) row[3]);
+                    current.setPublishAt((LocalDateTime) row[4]);
+                    current.setCreatedAt((LocalDateTime) row[5]);
+                    current.setEditedAt((LocalDateTime) row[6]);
+                    // 파생본 생성이 끝난 대표 이미지만 파생본 URL을 내려줌
+                    if (row[11] != null) {
+                        current.setMainImgVariants(ImageVariantsDto.of(current.getMainImgUrl()));
+                    }
+                    categories.clear();
+                    bodyTypes.clear();
+                }
+                // 카테고리 × 바디타입 조합만큼 행이 반복되므로 ID로 중복 제거
+                if (row[7] != null) {
+                    categories.computeIfAbsent((Integer) row[7], id -> {
+                        ContentListResponseDto.CategoryDto c = new ContentListResponseDto.CategoryDto();
+                        c.setId(id);
+                        c.setName((String) row[8]);
+                        return c;
+                    });
+                }
+                if (row[9] != null) {
+                    bodyTypes.computeIfAbsent((Integer) row[9], id -> {
+                        ContentListResponseDto.BodyTypeDto b = new ContentListResponseDto.BodyTypeDto();
+                        b.setId(id);
+                        b.setName((String) row[10]);
+                        return b;
+                    });
+                }
             }
-            // 바디타입 매핑
-            if (content.getBodyTypes() != null) {
-                dto.setBodyTypes(content.getBodyTypes().stream().map(bt -> {
-                    ContentListResponseDto.BodyTypeDto b = new ContentListResponseDto.BodyTypeDto();
-                    b.setId(bt.getId());
-                    b.setName(bt.getName());
-                    return b;
-                }).collect(Collectors.toList()));
+            if (current != null) {
+                writeListRow(generator, current, categories, bodyTypes);
             }
-            return dto;
-        }).collect(Collectors.toList());
+            generator.writeEndArray();
+        }
+    }
+
+    private void writeListRow(JsonGenerator generator, ContentListResponseDto dto,
+                              Map<Integer, ContentListResponseDto.CategoryDto> categories,
+                              Map<Integer, ContentListResponseDto.BodyTypeDto> bodyTypes) throws IOException {
+        dto.setCategories(new ArrayList<>(categories.values()));
+        dto.setBodyTypes(new ArrayList<>(bodyTypes.values()));
+        generator.writeObject(dto);
     }
 
     @Override
@@ -325,39 +321,165 @@ public class ContentServiceImpl implements ContentService {
             throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
         }
         
-        // S3에서 이미지 파일들 삭제
-        try {
-            // 메인 이미지 삭제
-            if (content.getMainImgUrl() != null && !content.getMainImgUrl().isEmpty()) {
-                FileDeleteRequestDto deleteRequest = FileDeleteRequestDto.builder()
-                        .userId(editorId)
-                        .fileUrl(content.getMainImgUrl())
-                        .build();
-                s3Service.deleteFile(deleteRequest);
-            }
-            
-            // 블록 이미지들 삭제
-            if (content.getContentBlocks() != null) {
-                for (ContentBlock block : content.getContentBlocks()) {
-                    if (block.getImages() != null) {
-                        for (ContentBlockImage image : block.getImages()) {
-                            if (image.getImageUrl() != null && !image.getImageUrl().isEmpty()) {
-                                FileDeleteRequestDto deleteRequest = FileDeleteRequestDto.builder()
-                                        .userId(editorId)
-                                        .fileUrl(image.getImageUrl())
-                                        .build();
-                                s3Service.deleteFile(deleteRequest);
-                            }
-                        }
+        // S3 이미지 파일들은 삭제 대기열에 적재하고 백그라운드에서 일괄 삭제
+        List<String> fileUrls = new ArrayList<>();
+        fileUrls.add(content.getMainImgUrl());
+        if (content.getContentBlocks() != null) {
+            for (ContentBlock block : content.getContentBlocks()) {
+                if (block.getImages() != null) {
+                    for (ContentBlockImage image : block.getImages()) {
+                        fileUrls.add(image.getImageUrl());
                     }
                 }
             }
-        } catch (Exception e) {
-            // S3 삭제 실패해도 DB 삭제는 진행 (로그 기록 권장)
-            System.err.println("Failed to delete S3 files for content " + contentId + ": " + e.getMessage());
         }
+        s3Service.scheduleDeletion(editorId, fileUrls);
         
         // DB에서 컨텐츠 삭제 (Cascade로 관련 데이터도 함께 삭제됨)
         contentRepository.delete(content);
+        contentStatsRepository.deleteByContentId(contentId);
+        contentSnapshotRepository.deleteByContentId(contentId);
+        contentStatsBuffer.discard(contentId);
+        contentFilterIndex.remove(contentId);
+        contentDetailCache.evict(contentId);
+    }
+
+    /**
+     * 요청 블록을 기존 블록과 ID, 그다음 순서(blockOrder)로 짝지어 바뀐 필드만 반영합니다.
+     * 짝이 없는 요청 블록은 추가하고, 짝이 없는 기존 블록은 삭제(orphanRemoval)합니다.
+     */
+    private void applyBlockDiff(Content content, List<ContentCreateRequestDto.ContentBlockDto> blockDtos) {
+        if (content.getContentBlocks() == null) {
+            content.setContentBlocks(new ArrayList<>());
+        }
+        List<ContentBlock> existing = content.getContentBlocks();
+        Map<Integer, ContentBlock> unmatchedById = new LinkedHashMap<>();
+        for (ContentBlock block : existing) {
+            unmatchedById.put(block.getId(), block);
+        }
+
+        Map<ContentCreateRequestDto.ContentBlockDto, ContentBlock> matched = new IdentityHashMap<>();
+        for (ContentCreateRequestDto.ContentBlockDto blockDto : blockDtos) {
+            if (blockDto.getBlockId() != null && unmatchedById.containsKey(blockDto.getBlockId())) {
+                matched.put(blockDto, unmatchedById.remove(blockDto.getBlockId()));
+            }
+        }
+        for (ContentCreateRequestDto.ContentBlockDto blockDto : blockDtos) {
+            if (matched.containsKey(blockDto) || blockDto.getBlockId() != null) {
+                continue;
+            }
+            unmatchedById.values().stream()
+                    .filter(block -> Objects.equals(block.getBlockOrder(), blockDto.getBlockOrder()))
+                    .findFirst()
+                    .ifPresent(block -> matched.put(blockDto, unmatchedById.remove(block.getId())));
+        }
+
+        // 짝이 없는 기존 블록 삭제
+        existing.removeAll(unmatchedById.values());
+
+        for (ContentCreateRequestDto.ContentBlockDto blockDto : blockDtos) {
+            ContentBlock block = matched.get(blockDto);
+            if (block == null) {
+                block = new ContentBlock();
+                block.setContent(content);
+                block.setImages(new ArrayList<>());
+                existing.add(block);
+            }
+            if (!Objects.equals(block.getBlockType(), blockDto.getBlockType())) {
+                block.setBlockType(blockDto.getBlockType());
+            }
+            if (!Objects.equals(block.getContentData(), blockDto.getContentData())) {
+                block.setContentData(blockDto.getContentData());
+            }
+            if (!Objects.equals(block.getBlockOrder(), blockDto.getBlockOrder())) {
+                block.setBlockOrder(blockDto.getBlockOrder());
+            }
+            applyStyleDiff(block, blockDto.getStyle());
+            applyImageDiff(block, blockDto.getImages() != null ? blockDto.getImages() : List.of());
+        }
+    }
+
+    private void applyStyleDiff(ContentBlock block, ContentCreateRequestDto.ContentBlockStyleDto styleDto) {
+        ContentBlockStyle style = block.getContentBlockStyle();
+        if (styleDto == null) {
+            if (style != null) {
+                block.setContentBlockStyle(null);
+            }
+            return;
+        }
+        if (style == null) {
+            style = new ContentBlockStyle();
+            style.setContentBlock(block);
+            block.setContentBlockStyle(style);
+        }
+        if (!Objects.equals(style.getFontFamily(), styleDto.getFontFamily())) {
+            style.setFontFamily(styleDto.getFontFamily());
+        }
+        if (!Objects.equals(style.getFontSize(), styleDto.getFontSize())) {
+            style.setFontSize(styleDto.getFontSize());
+        }
+        if (!Objects.equals(style.getFontWeight(), styleDto.getFontWeight())) {
+            style.setFontWeight(styleDto.getFontWeight());
+        }
+        if (!Objects.equals(style.getTextColor(), styleDto.getTextColor())) {
+            style.setTextColor(styleDto.getTextColor());
+        }
+        if (!Objects.equals(style.getBackgroundColor(), styleDto.getBackgroundColor())) {
+            style.setBackgroundColor(styleDto.getBackgroundColor());
+        }
+        if (!Objects.equals(style.getTextAlign(), styleDto.getTextAlign())) {
+            style.setTextAlign(styleDto.getTextAlign());
+        }
+    }
+
+    /**
+     * 이미지는 imageOrder 순으로 정렬해 위치별로 비교합니다. 남는 기존 이미지는 삭제하고 모자란 만큼 추가합니다.
+     */
+    private void applyImageDiff(ContentBlock block, List<ContentCreateRequestDto.ContentBlockImageDto> imageDtos) {
+        if (block.getImages() == null) {
+            block.setImages(new ArrayList<>());
+        }
+        List<ContentBlockImage> images = block.getImages();
+        List<ContentBlockImage> sorted = images.stream()
+                .sorted(Comparator.comparing(ContentBlockImage::getImageOrder))
+                .collect(Collectors.toList());
+        List<ContentCreateRequestDto.ContentBlockImageDto> sortedDtos = imageDtos.stream()
+                .sorted(Comparator.comparing(ContentCreateRequestDto.ContentBlockImageDto::getImageOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < sortedDtos.size(); i++) {
+            ContentCreateRequestDto.ContentBlockImageDto imageDto = sortedDtos.get(i);
+            ContentBlockImage image;
+            if (i < sorted.size()) {
+                image = sorted.get(i);
+            } else {
+                image = new ContentBlockImage();
+                image.setContentBlock(block);
+                images.add(image);
+            }
+            if (!Objects.equals(image.getImageUrl(), imageDto.getImageUrl())) {
+                image.setImageUrl(imageDto.getImageUrl());
+            }
+            if (!Objects.equals(image.getImageOrder(), imageDto.getImageOrder())) {
+                image.setImageOrder(imageDto.getImageOrder());
+            }
+        }
+        if (sorted.size() > sortedDtos.size()) {
+            images.removeAll(sorted.subList(sortedDtos.size(), sorted.size()));
+        }
+    }
+
+    private <T> Set<Integer> idsOf(Collection<T> entities, Function<T, Integer> idGetter) {
+        if (entities == null) {
+            return Set.of();
+        }
+        return entities.stream().map(idGetter).collect(Collectors.toSet());
+    }
+
+    private void updateFilterIndex(Content content) {
+        contentFilterIndex.put(content.getId(),
+                content.getContentCategories().stream().map(ContentCategory::getId).toList(),
+                content.getBodyTypes().stream().map(BodyType::getId).toList());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yourmode.yourmodebackend.domain.content.dto.ContentCountDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentSnapshotRepository;
+import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * 컨텐츠 상세 응답 JSON 스냅샷 생성/저장
+ * 스냅샷에는 좋아요/댓글/조회수 필드가 없으며, 응답 시 카운트 필드를 채워 넣습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentSnapshotRenderer {
+
+    private final ObjectMapper objectMapper;
+    private final ContentSnapshotRepository contentSnapshotRepository;
+
+    /**
+     * 상세 DTO를 카운트 필드를 제외한 JSON으로 직렬화합니다. 블록과 이미지는 순서대로 정렬합니다.
+     */
+    public String render(ContentDetailResponseDto dto) {
+        if (dto.getBlocks() != null) {
+            dto.getBlocks().sort(Comparator.comparing(ContentDetailResponseDto.ContentBlockDto::getBlockOrder));
+            for (ContentDetailResponseDto.ContentBlockDto block : dto.getBlocks()) {
+                if (block.getImages() != null) {
+                    block.getImages().sort(Comparator.comparing(ContentDetailResponseDto.ContentBlockImageDto::getImageOrder));
+                }
+            }
+        }
+        ObjectNode node = objectMapper.valueToTree(dto);
+        node.remove("likeCount");
+        node.remove("commentCount");
+        node.remove("viewCount");
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new RestApiException(ContentErrorStatus.DB_INSERT_FAILED);
+        }
+    }
+
+    /**
+     * 스냅샷을 생성해 저장(덮어쓰기)하고 저장된 JSON을 반환합니다. (생성/수정 경로용)
+     */
+    public String save(Integer contentId, ContentDetailResponseDto dto) {
+        String body = render(dto);
+        contentSnapshotRepository.upsert(contentId, body);
+        return body;
+    }
+
+    /**
+     * 스냅샷이 없을 때만 생성해 저장하고, 실제로 저장되어 있는 JSON을 반환합니다. (조회 경로용)
+     * 그 사이 생성/수정으로 저장된 스냅샷이 있으면 그 값을 그대로 사용합니다.
+     */
+    public String saveIfAbsent(Integer contentId, ContentDetailResponseDto dto) {
+        String body = render(dto);
+        if (contentSnapshotRepository.insertIfAbsent(contentId, body) > 0) {
+            return body;
+        }
+        String stored = contentSnapshotRepository.findLatestBodyByContentId(contentId);
+        return stored != null ? stored : body;
+    }
+
+    /**
+     * 스냅샷 JSON에 카운트 필드를 붙여 응답 JSON을 만듭니다.
+     * 문자열을 이어 붙이지 않고 트리로 읽어 필드를 설정하므로 스냅샷 구조와 관계없이 올바른 JSON이 됩니다.
+     */
+    public String withCounts(String snapshot, ContentCountDto count) {
+        try {
+            if (!(objectMapper.readTree(snapshot) instanceof ObjectNode node)) {
+                throw new RestApiException(ContentErrorStatus.SNAPSHOT_READ_FAILED);
+            }
+            node.put("likeCount", count.likeCount());
+            node.put("commentCount", count.commentCount());
+            node.put("viewCount", count.viewCount());
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new RestApiException(ContentErrorStatus.SNAPSHOT_READ_FAILED);
+        }
+    }
+}
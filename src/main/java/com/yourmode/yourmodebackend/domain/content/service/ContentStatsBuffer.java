@@ -0,0 +1,135 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.domain.content.dto.ContentCountDto;
+import com.yourmode.yourmodebackend.domain.content.redis.ContentCounterRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentStatsRepository;
+import com.yourmode.yourmodebackend.global.common.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * content_stats 카운터의 write-behind 버퍼
+ * 좋아요/댓글/조회 이벤트의 증감분을 콘텐츠 ID별로 합쳐 두었다가 주기적으로 한 번에 반영합니다.
+ * 이벤트는 원본 트랜잭션이 커밋된 뒤에만 기록되므로 롤백된 요청은 카운터에 반영되지 않습니다.
+ * 같은 시점에 Redis 실시간 카운터에도 증감분을 바로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentStatsBuffer {
+
+    private final ContentStatsRepository contentStatsRepository;
+    private final ContentCounterRepository contentCounterRepository;
+
+    private final ConcurrentHashMap<Integer, Delta> pending = new ConcurrentHashMap<>();
+
+    public void recordLike(Integer contentId, long delta) {
+        record(contentId, delta, 0L, 0L);
+    }
+
+    public void recordComment(Integer contentId, long delta) {
+        record(contentId, 0L, delta, 0L);
+    }
+
+    public void recordView(Integer contentId, long delta) {
+        record(contentId, 0L, 0L, delta);
+    }
+
+    /**
+     * 삭제된 콘텐츠의 대기 중인 증감분을 버립니다.
+     */
+    public void discard(Integer contentId) {
+        TransactionHooks.runAfterCommit(() -> {
+            pending.remove(contentId);
+            try {
+                contentCounterRepository.delete(contentId);
+            } catch (Exception e) {
+                log.warn("Redis 카운터 삭제 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 아직 content_stats에 반영되지 않은 증감분을 조회합니다.
+     */
+    public ContentCountDto pendingDelta(Integer contentId) {
+        Delta delta = pending.get(contentId);
+        if (delta == null) {
+            return ContentCountDto.empty();
+        }
+        synchronized (delta) {
+            return new ContentCountDto(delta.like, delta.comment, delta.view);
+        }
+    }
+
+    /**
+     * 대기 중인 증감분을 content_stats에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${content.stats.flush-interval-ms:5000}")
+    public void flush() {
+        for (Integer contentId : pending.keySet()) {
+            Delta delta = pending.remove(contentId);
+            if (delta == null || delta.isZero()) {
+                continue;
+            }
+            try {
+                contentStatsRepository.applyDelta(contentId, delta.like, delta.comment, delta.view);
+            } catch (Exception e) {
+                // 반영 실패 시 다음 flush에서 다시 시도
+                log.warn("content_stats 반영 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+                pending.merge(contentId, delta, Delta::add);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(Integer contentId, long like, long comment, long view) {
+        if (contentId == null) {
+            return;
+        }
+        TransactionHooks.runAfterCommit(() -> {
+            pending.merge(contentId, new Delta(like, comment, view), Delta::add);
+            try {
+                contentCounterRepository.increment(contentId, like, comment, view);
+            } catch (Exception e) {
+                // Redis 장애 시 카운터 키는 TTL이 지나면 DB 값으로 다시 채워짐
+                log.warn("Redis 카운터 반영 실패 - contentId: {}, error: {}", contentId, e.getMessage());
+            }
+        });
+    }
+
+    private static final class Delta {
+        private long like;
+        private long comment;
+        private long view;
+
+        private Delta(long like, long comment, long view) {
+            this.like = like;
+            this.comment = comment;
+            this.view = view;
+        }
+
+        // ConcurrentHashMap.merge 안에서만 호출되므로 같은 키에 대해 원자적으로 실행됨
+        private static Delta add(Delta current, Delta other) {
+            synchronized (current) {
+                current.like += other.like;
+                current.comment += other.comment;
+                current.view += other.view;
+            }
+            return current;
+        }
+
+        private boolean isZero() {
+            return like == 0 && comment == 0 && view == 0;
+        }
+    }
+}
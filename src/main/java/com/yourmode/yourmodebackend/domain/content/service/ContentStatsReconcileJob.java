@@ -0,0 +1,50 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.yourmode.yourmodebackend.domain.content.repository.ContentRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * content_stats를 원본 테이블(content_likes, content_comments, content_views) 기준으로 다시 계산하는 정합성 보정 작업
+ * 재계산은 버퍼의 증감분과 원자적으로 맞물리지 않으므로 완전한 일치를 보장하지 않습니다.
+ * 구간별 재계산 직전에 버퍼를 비워, 어긋남을 그 구간 재계산 동안 커밋된 이벤트 수 이내로 줄이며 다음 재계산에서 다시 보정됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentStatsReconcileJob {
+
+    private final ContentRepository contentRepository;
+    private final ContentStatsRepository contentStatsRepository;
+    private final ContentStatsBuffer contentStatsBuffer;
+
+    @Value("${content.stats.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${content.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        Integer maxId = contentRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int rebuilt = 0;
+        for (int fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            int toId = fromId + chunkSize - 1;
+            try {
+                // 재계산 전에 쌓인 증감분은 먼저 반영해 둠 (재계산 값에 덮어써지므로 중복되지 않음)
+                // 비운 뒤 재계산이 끝나기 전에 기록된 증감분은 이미 COUNT(*)에 포함됐어도 이후 flush에서 다시 더해질 수 있음
+                contentStatsBuffer.flush();
+                rebuilt += contentStatsRepository.rebuildRange(fromId, toId);
+            } catch (Exception e) {
+                log.error("content_stats 재계산 실패 - range: {}~{}, error: {}", fromId, toId, e.getMessage());
+            }
+        }
+        int removed = contentStatsRepository.deleteOrphans();
+        log.info("content_stats 재계산 완료 - affectedRows: {}, removedOrphans: {}", rebuilt, removed);
+    }
+}
@@ -0,0 +1,161 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 기록 수집 버퍼
+ * 같은 (콘텐츠, 사용자) 조회는 flush 주기 안에서 가장 최근 시각 하나로 합쳐지고,
+ * 주기마다 콘텐츠별 다중 행 INSERT IGNORE로 첫 조회를 기록한 뒤, 이미 있던 행이 있으면 UPDATE 배치로 조회 시각을 갱신합니다.
+ * 첫 조회 수는 문장 하나의 영향 행 수로 셉니다. 배치의 행별 결과는 rewriteBatchedStatements 설정에서
+ * SUCCESS_NO_INFO(-2)가 되므로 쓰지 않습니다. (content_id, user_id) 유니크 키는 V1 마이그레이션이 보장합니다.
+ * 버퍼가 가득 차면 요청 스레드에서 바로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentViewBuffer {
+
+    // 같은 키가 이미 있는 행은 건너뛰므로 영향 행 수 = 새로 기록된 첫 조회 수
+    // 삭제된 콘텐츠/사용자로 FK가 어긋난 행도 경고로 바뀌어 세지 않음
+    private static final String INSERT_SQL_PREFIX =
+            "INSERT IGNORE INTO content_views (content_id, user_id, viewed_at) VALUES ";
+
+    private static final String TOUCH_SQL =
+            "UPDATE content_views SET viewed_at = GREATEST(viewed_at, ?) WHERE content_id = ? AND user_id = ?";
+
+    // 다중 행 INSERT 한 문장의 최대 행 수
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentStatsBuffer contentStatsBuffer;
+
+    private final ConcurrentHashMap<ViewKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Value("${content.view.buffer-max-size:10000}")
+    private int maxSize;
+
+    /**
+     * 조회 기록을 버퍼에 추가합니다.
+     */
+    public void record(Integer contentId, Integer userId, LocalDateTime viewedAt) {
+        ViewKey key = new ViewKey(contentId, userId);
+        if (pending.size() >= maxSize && !pending.containsKey(key)) {
+            // 버퍼가 가득 찬 경우 동기 기록
+            write(List.of(new PendingView(key, viewedAt)));
+            return;
+        }
+        pending.merge(key, viewedAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * 버퍼에 쌓인 조회 기록을 콘텐츠별 INSERT 한 문장으로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${content.view.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingView> views = new ArrayList<>();
+        for (ViewKey key : pending.keySet()) {
+            LocalDateTime viewedAt = pending.remove(key);
+            if (viewedAt != null) {
+                views.add(new PendingView(key, viewedAt));
+            }
+        }
+        if (!views.isEmpty()) {
+            write(views);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<PendingView> views) {
+        Map<Integer, List<PendingView>> byContent = new LinkedHashMap<>();
+        for (PendingView view : views) {
+            byContent.computeIfAbsent(view.key().contentId(), k -> new ArrayList<>()).add(view);
+        }
+        for (Map.Entry<Integer, List<PendingView>> entry : byContent.entrySet()) {
+            List<PendingView> contentViews = entry.getValue();
+            for (int from = 0; from < contentViews.size(); from += MAX_ROWS_PER_INSERT) {
+                writeContent(entry.getKey(), contentViews.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, contentViews.size())));
+            }
+        }
+    }
+
+    // 한 콘텐츠의 조회 기록을 한 문장으로 삽입하고, 삽입되지 않은 행이 있으면 조회 시각을 갱신
+    private void writeContent(Integer contentId, List<PendingView> views) {
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(INSERT_SQL_PREFIX + String.join(",", Collections.nCopies(views.size(), "(?, ?, ?)")), ps -> {
+                int index = 1;
+                for (PendingView view : views) {
+                    ps.setInt(index++, contentId);
+                    ps.setInt(index++, view.key().userId());
+                    ps.setTimestamp(index++, Timestamp.valueOf(view.viewedAt()));
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("조회 기록 반영 실패, 개별 반영합니다 - contentId: {}, size: {}, error: {}", contentId, views.size(), e.getMessage());
+            writeEach(views);
+            return;
+        }
+
+        if (inserted > 0) {
+            contentStatsBuffer.recordView(contentId, inserted);
+        }
+        if (inserted == views.size()) {
+            return;
+        }
+        // 어느 행이 이미 있었는지는 알 수 없으므로 모두 갱신 (GREATEST라 방금 삽입한 행은 그대로)
+        try {
+            jdbcTemplate.batchUpdate(TOUCH_SQL, views, views.size(), (ps, view) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(view.viewedAt()));
+                ps.setInt(2, contentId);
+                ps.setInt(3, view.key().userId());
+            });
+        } catch (DataAccessException e) {
+            // 조회 시각 갱신은 집계에 영향이 없으므로 버림
+            log.warn("조회 시각 갱신 실패 - contentId: {}, size: {}, error: {}", contentId, views.size(), e.getMessage());
+        }
+    }
+
+    private void writeEach(List<PendingView> views) {
+        for (PendingView view : views) {
+            try {
+                int inserted = jdbcTemplate.update(INSERT_SQL_PREFIX + "(?, ?, ?)",
+                        view.key().contentId(), view.key().userId(), Timestamp.valueOf(view.viewedAt()));
+                if (inserted == 1) {
+                    contentStatsBuffer.recordView(view.key().contentId(), 1);
+                } else {
+                    jdbcTemplate.update(TOUCH_SQL,
+                            Timestamp.valueOf(view.viewedAt()), view.key().contentId(), view.key().userId());
+                }
+            } catch (DataAccessException e) {
+                log.warn("조회 기록 반영 실패 - contentId: {}, userId: {}, error: {}",
+                        view.key().contentId(), view.key().userId(), e.getMessage());
+            }
+        }
+    }
+
+    private record ViewKey(Integer contentId, Integer userId) {
+    }
+
+    private record PendingView(ViewKey key, LocalDateTime viewedAt) {
+    }
+}
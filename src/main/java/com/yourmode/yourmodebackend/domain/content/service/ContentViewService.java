@@ -8,7 +8,7 @@ public interface ContentViewService {
     
     /**
      * 콘텐츠 조회수 추가 또는 업데이트
-     * 이미 조회한 경우 시간을 업데이트
+     * 이미 조회한 경우 시간을 업데이트 (기록은 버퍼를 거쳐 비동기로 일괄 반영)
      * @return 조회수 추가 결과 DTO
      */
     ContentViewResponseDto addOrUpdateView(Integer contentId, Integer userId);
@@ -3,17 +3,12 @@ package com.yourmode.yourmodebackend.domain.content.service;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentViewCountResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.ContentViewResponseDto;
 import com.yourmode.yourmodebackend.domain.content.dto.response.UserViewCountResponseDto;
-import com.yourmode.yourmodebackend.domain.content.entity.Content;
-import com.yourmode.yourmodebackend.domain.content.entity.ContentView;
 import com.yourmode.yourmodebackend.domain.content.repository.ContentRepository;
 import com.yourmode.yourmodebackend.domain.content.repository.ContentViewRepository;
 import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
-import com.yourmode.yourmodebackend.domain.user.entity.User;
-import com.yourmode.yourmodebackend.domain.user.repository.UserRepository;
 import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -23,37 +18,22 @@ public class ContentViewServiceImpl implements ContentViewService {
 
     private final ContentViewRepository contentViewRepository;
     private final ContentRepository contentRepository;
-    private final UserRepository userRepository;
+    private final ContentViewBuffer contentViewBuffer;
 
     @Override
-    @Transactional
     public ContentViewResponseDto addOrUpdateView(Integer contentId, Integer userId) {
         // 콘텐츠 존재 확인
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new RestApiException(ContentErrorStatus.CONTENT_NOT_FOUND));
-        
-        // 사용자 존재 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS));
+        if (!contentRepository.existsById(contentId)) {
+            throw new RestApiException(ContentErrorStatus.CONTENT_NOT_FOUND);
+        }
+        if (userId == null) {
+            throw new RestApiException(ContentErrorStatus.FORBIDDEN_CONTENT_ACCESS);
+        }
 
         LocalDateTime viewedAt = LocalDateTime.now();
 
-        // 이미 조회한 기록이 있는지 확인
-        ContentView existingView = contentViewRepository.findByContentIdAndUserId(contentId, userId)
-                .orElse(null);
-
-        if (existingView != null) {
-            // 이미 조회한 경우 시간 업데이트
-            contentViewRepository.updateViewedAt(contentId, userId, viewedAt);
-        } else {
-            // 새로운 조회 기록 생성
-            ContentView contentView = ContentView.builder()
-                    .content(content)
-                    .user(user)
-                    .viewedAt(viewedAt)
-                    .build();
-            contentViewRepository.save(contentView);
-        }
+        // 조회 기록은 버퍼에 모았다가 일괄 반영 (신규 조회 여부는 반영 시점에 판단해 조회수에 더함)
+        contentViewBuffer.record(contentId, userId, viewedAt);
         
         return ContentViewResponseDto.builder()
                 .userId(userId)
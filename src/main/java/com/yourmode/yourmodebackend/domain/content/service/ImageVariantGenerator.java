@@ -0,0 +1,243 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentImageVariantRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentSnapshotRepository;
+import com.yourmode.yourmodebackend.domain.content.util.ImageVariant;
+import com.yourmode.yourmodebackend.global.common.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨텐츠 이미지 파생본(썸네일/목록/상세 너비 JPEG) 생성
+ * 컨텐츠 생성/수정이 커밋된 뒤 원본을 S3에서 내려받아 ImageIO로 축소/재압축하고 원본 옆에 저장합니다.
+ * 파생본 메타데이터에 원본의 ETag를 기록해 두고, 가장 큰 파생본의 ETag가 현재 원본과 같으면 건너뜁니다.
+ * 수정 시 바뀌지 않은 이미지는 다시 처리하지 않고, 같은 키로 다시 업로드된 원본은 파생본을 새로 만듭니다.
+ * 모든 파생본을 저장한 뒤 원본 URL을 content_image_variants에 기록하며, 응답은 기록된 원본에만 파생본 URL을 내려줍니다.
+ * 응답을 만들 때 아직 기록되지 않았던 원본이면 기록 후 컨텐츠 스냅샷과 캐시를 지워 다음 조회에 파생본 URL이 포함되게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private static final List<ImageVariant> VARIANTS = List.of(ImageVariant.values());
+    private static final ImageVariant LARGEST = ImageVariant.DETAIL;
+    private static final String SOURCE_ETAG = "source-etag";
+
+    private final AmazonS3 amazonS3;
+    private final ContentImageVariantRepository contentImageVariantRepository;
+    private final ContentSnapshotRepository contentSnapshotRepository;
+    private final ContentDetailCache contentDetailCache;
+    @Qualifier("imageVariantExecutor")
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${content.image-variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    /**
+     * 컨텐츠 이미지 URL들의 파생본 생성을 예약합니다. (트랜잭션 커밋 후 비동기로 실행)
+     * 이 버킷의 사용자 디렉토리 이미지만 대상이며, 외부 URL은 경로가 같아도 건너뜁니다.
+     */
+    public void generate(Integer contentId, Collection<String> imageUrls) {
+        Map<String, String> keysByUrl = new LinkedHashMap<>();
+        for (String imageUrl : imageUrls) {
+            String key = keyOf(imageUrl);
+            if (ImageVariant.supports(key)) {
+                keysByUrl.put(imageUrl, key);
+            }
+        }
+        if (keysByUrl.isEmpty()) {
+            return;
+        }
+        // 응답을 만들 때 이미 기록돼 있던 원본은 완료 후 스냅샷을 다시 만들 필요가 없음
+        Set<String> ready = new HashSet<>(contentImageVariantRepository.findReadySourceUrls(keysByUrl.keySet()));
+        TransactionHooks.runAfterCommit(() -> {
+            for (Map.Entry<String, String> entry : keysByUrl.entrySet()) {
+                String url = entry.getKey();
+                boolean refreshSnapshot = !ready.contains(url);
+                try {
+                    imageVariantExecutor.execute(() -> generateVariants(contentId, url, entry.getValue(), refreshSnapshot));
+                } catch (TaskRejectedException e) {
+                    log.warn("이미지 파생본 생성 대기열 초과, 건너뜀 - key: {}", entry.getValue());
+                }
+            }
+        });
+    }
+
+    private void generateVariants(Integer contentId, String url, String key, boolean refreshSnapshot) {
+        try {
+            String sourceEtag = amazonS3.getObjectMetadata(bucket, key).getETag();
+            if (sourceEtag != null && sourceEtag.equals(generatedFrom(LARGEST.of(key)))) {
+                // 기록 전에 만들어진 파생본도 여기서 기록됨
+                markReady(contentId, url, sourceEtag, refreshSnapshot);
+                return;
+            }
+            BufferedImage source;
+            try (S3Object object = amazonS3.getObject(bucket, key);
+                 InputStream in = object.getObjectContent()) {
+                // 확인 후 원본이 바뀌었을 수 있으므로 실제로 내려받은 객체의 ETag를 기록
+                sourceEtag = object.getObjectMetadata().getETag();
+                source = read(in);
+            }
+            if (source == null) {
+                log.warn("이미지 파생본 생성 불가 (지원하지 않는 형식) - key: {}", key);
+                return;
+            }
+            // 큰 파생본을 마지막에 저장해야 그 ETag로 완료를 판단할 수 있음
+            for (ImageVariant variant : VARIANTS) {
+                byte[] jpeg = toJpeg(resize(source, variant.width()));
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentType("image/jpeg");
+                metadata.setContentLength(jpeg.length);
+                if (sourceEtag != null) {
+                    metadata.addUserMetadata(SOURCE_ETAG, sourceEtag);
+                }
+                amazonS3.putObject(bucket, variant.of(key), new ByteArrayInputStream(jpeg), metadata);
+            }
+            markReady(contentId, url, sourceEtag, refreshSnapshot);
+            log.info("이미지 파생본 생성 완료 - key: {}, size: {}x{}", key, source.getWidth(), source.getHeight());
+        } catch (Exception e) {
+            log.warn("이미지 파생본 생성 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private void markReady(Integer contentId, String url, String sourceEtag, boolean refreshSnapshot) {
+        contentImageVariantRepository.markReady(url, sourceEtag);
+        if (refreshSnapshot) {
+            // 다음 조회에서 파생본 URL을 포함해 스냅샷을 다시 만듦
+            contentSnapshotRepository.deleteByContentId(contentId);
+            contentDetailCache.evict(contentId);
+        }
+    }
+
+    // 파생본이 만들어진 원본의 ETag (파생본이 없거나 기록되지 않았으면 null)
+    private String generatedFrom(String variantKey) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, variantKey).getUserMetaDataOf(SOURCE_ETAG);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 가장 큰 파생본의 2배 너비까지만 서브샘플링해 디코딩합니다. (큰 원본을 전부 메모리에 올리지 않기 위함)
+     */
+    private BufferedImage read(InputStream in) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, reader.getWidth(0) / (LARGEST.width() * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본보다 크게 늘리지 않으며, 투명 영역은 흰색으로 채움 (JPEG는 알파 채널이 없음)
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 이 버킷의 이미지 URL에서 객체 키를 추출합니다. 다른 호스트의 URL이면 null
+     * 버킷 스타일(https://bucket.s3.region.amazonaws.com/key)과 경로 스타일(https://s3.region.amazonaws.com/bucket/key)을 지원합니다.
+     */
+    private String keyOf(String imageUrl) {
+        if (imageUrl == null) {
+            return null;
+        }
+        try {
+            URL url = new URL(imageUrl);
+            String host = url.getHost();
+            String path = url.getPath();
+            if (!host.endsWith(".amazonaws.com")) {
+                return null;
+            }
+            if (host.startsWith(bucket + ".s3")) {
+                return path.substring(1);
+            }
+            if (host.startsWith("s3.") && path.startsWith("/" + bucket + "/")) {
+                return path.substring(bucket.length() + 2);
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("이미지 URL 파싱 실패 - imageUrl: {}", imageUrl);
+            return null;
+        }
+    }
+}
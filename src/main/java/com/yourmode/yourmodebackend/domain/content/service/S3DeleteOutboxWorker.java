@@ -0,0 +1,111 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.yourmode.yourmodebackend.domain.content.entity.S3DeleteOutbox;
+import com.yourmode.yourmodebackend.domain.content.repository.S3DeleteOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 삭제 대기열 처리 작업
+ * 대기 중인 객체 키를 DeleteObjects 요청 하나에 최대 1000개씩 묶어 삭제합니다.
+ * 실패한 키는 지수 백오프로 재시도하며, 최대 재시도 횟수를 넘기면 대기열에 남겨 두고 더 이상 시도하지 않습니다.
+ * S3 삭제는 멱등이므로 여러 서버가 같은 행을 동시에 처리해도 문제가 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeleteOutboxWorker {
+
+    // DeleteObjects 요청 하나에 담을 수 있는 최대 키 개수
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AmazonS3 amazonS3;
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${s3.delete-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${s3.delete-outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${s3.delete-outbox.backoff-max-seconds:21600}")
+    private long backoffMaxSeconds;
+
+    @Scheduled(fixedDelayString = "${s3.delete-outbox.poll-interval-ms:5000}")
+    public void drain() {
+        List<S3DeleteOutbox> due;
+        do {
+            due = s3DeleteOutboxRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, MAX_KEYS_PER_REQUEST));
+            if (due.isEmpty()) {
+                return;
+            }
+        } while (deleteBatch(due) && due.size() == MAX_KEYS_PER_REQUEST);
+    }
+
+    /**
+     * 한 묶음을 삭제하고 결과를 대기열에 반영합니다. 하나라도 삭제되었으면 true
+     */
+    private boolean deleteBatch(List<S3DeleteOutbox> batch) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(batch.stream().map(S3DeleteOutbox::getObjectKey).toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+            s3DeleteOutboxRepository.deleteAllInBatch(batch);
+            log.info("S3 파일 일괄 삭제 완료 - count: {}", batch.size());
+            return true;
+        } catch (MultiObjectDeleteException e) {
+            Map<String, String> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getKey(), error.getCode() + ": " + error.getMessage()));
+            List<S3DeleteOutbox> deleted = new ArrayList<>();
+            List<S3DeleteOutbox> failed = new ArrayList<>();
+            for (S3DeleteOutbox entry : batch) {
+                String error = errors.get(entry.getObjectKey());
+                if (error == null) {
+                    deleted.add(entry);
+                } else {
+                    markFailed(entry, error);
+                    failed.add(entry);
+                }
+            }
+            s3DeleteOutboxRepository.deleteAllInBatch(deleted);
+            s3DeleteOutboxRepository.saveAll(failed);
+            log.warn("S3 파일 일괄 삭제 일부 실패 - deleted: {}, failed: {}", deleted.size(), failed.size());
+            return !deleted.isEmpty();
+        } catch (Exception e) {
+            batch.forEach(entry -> markFailed(entry, e.getMessage()));
+            s3DeleteOutboxRepository.saveAll(batch);
+            log.warn("S3 파일 일괄 삭제 실패 - count: {}, error: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void markFailed(S3DeleteOutbox entry, String error) {
+        int attempts = entry.getAttempts() + 1;
+        long delaySeconds = Math.min(backoffBaseSeconds << Math.min(attempts - 1, 20), backoffMaxSeconds);
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        entry.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            log.error("S3 파일 삭제 재시도 한도 초과, 대기열에 보관 - id: {}, key: {}, error: {}",
+                    entry.getId(), entry.getObjectKey(), error);
+        }
+    }
+}
@@ -4,6 +4,10 @@ import com.yourmode.yourmodebackend.domain.content.dto.request.s3.*;
 import com.yourmode.yourmodebackend.domain.content.dto.response.s3.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
 public interface S3Service {
     
     /**
@@ -22,6 +26,21 @@ public interface S3Service {
      */
     BatchPresignedUrlResponseDto generateBatchPresignedUrls(BatchPresignedUrlRequestDto requestDto);
     
+    /**
+     * 배치 Presigned URL 발급 요청 검증 (스트리밍 응답을 시작하기 전에 호출)
+     * 
+     * @param requestDto 배치 Presigned URL 발급 요청 DTO
+     */
+    void validateBatchPresignedUrlRequest(BatchPresignedUrlRequestDto requestDto);
+    
+    /**
+     * 배치 Presigned URL을 NDJSON으로 스트리밍 (한 줄에 {"fileName", "presignedUrl"} 하나)
+     * 
+     * @param requestDto 검증된 배치 Presigned URL 발급 요청 DTO
+     * @param out 응답 출력 스트림
+     */
+    void streamBatchPresignedUrls(BatchPresignedUrlRequestDto requestDto, OutputStream out) throws IOException;
+    
     /**
      * S3 파일 삭제
      * 
@@ -38,4 +57,13 @@ public interface S3Service {
      * @return 업로드된 파일의 S3 URL
      */
     String uploadFileWithPresignedUrl(String presignedUrl, MultipartFile file);
-} 
\ No newline at end of file
+
+    /**
+     * S3 파일 삭제 예약 (삭제 대기열에 적재 후 백그라운드에서 일괄 삭제)
+     * 호출자의 트랜잭션에 참여하므로, 트랜잭션이 롤백되면 삭제 예약도 취소됩니다.
+     * 
+     * @param userId 파일 소유 사용자 ID
+     * @param fileUrls 삭제할 파일 S3 URL 목록
+     */
+    void scheduleDeletion(Integer userId, Collection<String> fileUrls);
+}
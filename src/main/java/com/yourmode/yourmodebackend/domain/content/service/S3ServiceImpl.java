@@ -1,40 +1,90 @@
 package com.yourmode.yourmodebackend.domain.content.service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.yourmode.yourmodebackend.domain.content.dto.request.s3.*;
 import com.yourmode.yourmodebackend.domain.content.dto.response.s3.*;
+import com.yourmode.yourmodebackend.domain.content.entity.S3DeleteOutbox;
+import com.yourmode.yourmodebackend.domain.content.repository.ContentImageVariantRepository;
+import com.yourmode.yourmodebackend.domain.content.repository.S3DeleteOutboxRepository;
 import com.yourmode.yourmodebackend.domain.content.status.S3ErrorStatus;
+import com.yourmode.yourmodebackend.domain.content.util.ImageVariant;
 import com.yourmode.yourmodebackend.domain.user.repository.UserRepository;
 import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import com.yourmode.yourmodebackend.global.common.exception.code.BaseCodeDto;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
+
+    // 배치 Presigned URL 발급 시 한 번에 요청할 수 있는 최대 파일 수
+    private static final int MAX_BATCH_FILES = 500;
     
     private final AmazonS3 amazonS3;
     private final UserRepository userRepository;
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository;
+    private final ContentImageVariantRepository contentImageVariantRepository;
+    @Qualifier("presignExecutor")
+    private final ThreadPoolTaskExecutor presignExecutor;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${s3.upload.timeout-seconds:300}")
+    private long uploadTimeoutSeconds;
+
+    @Value("${s3.presign.chunk-size:25}")
+    private int presignChunkSize;
+
+    @Value("${s3.presign.user-cache-ttl-seconds:300}")
+    private long userCacheTtlSeconds;
+
+    @Value("${s3.presign.user-cache-max-size:10000}")
+    private int userCacheMaxSize;
+
+    // 존재가 확인된 사용자 ID → 만료 시각(ms). 존재하지 않는 사용자는 캐시하지 않음
+    private Map<Integer, Long> existingUsers;
+
+    @PostConstruct
+    public void init() {
+        existingUsers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Long> eldest) {
+                return size() > userCacheMaxSize;
+            }
+        };
+    }
+
     @Override
     public PresignedUrlResponseDto generatePresignedUrl(PresignedUrlRequestDto requestDto) {
         Integer userId = requestDto.getUserId();
@@ -107,6 +157,44 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public void validateBatchPresignedUrlRequest(BatchPresignedUrlRequestDto requestDto) {
+        validateUserExists(requestDto.getUserId());
+        validateFileList(requestDto.getFileNames());
+        validateExpirationTime(requestDto.getExpirationMinutes());
+    }
+
+    @Override
+    public void streamBatchPresignedUrls(BatchPresignedUrlRequestDto requestDto, OutputStream out) throws IOException {
+        String userDirectory = userDirectoryOf(requestDto.getUserId());
+        Date expiration = expirationOf(requestDto.getExpirationMinutes());
+        // 묶음 단위로 서명을 먼저 모두 제출하고, 요청 순서대로 완료되는 즉시 한 줄씩 기록
+        List<CompletableFuture<Map<String, String>>> chunks = submitChunks(requestDto.getFileNames(), userDirectory, expiration);
+        for (CompletableFuture<Map<String, String>> chunk : chunks) {
+            Map<String, String> signed;
+            try {
+                signed = chunk.join();
+            } catch (CompletionException e) {
+                // 이미 응답이 시작되었으므로 에러 응답 대신 마지막 줄에 오류를 기록하고 종료
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("배치 Presigned URL 스트리밍 실패 - userId: {}, error: {}", requestDto.getUserId(), cause.getMessage());
+                chunks.forEach(remaining -> remaining.cancel(false));
+                writeErrorLine(out, cause instanceof RestApiException restApiException
+                        ? restApiException.getErrorCode()
+                        : S3ErrorStatus.PRESIGNED_URL_GENERATION_FAILED.getCode());
+                return;
+            }
+            for (Map.Entry<String, String> entry : signed.entrySet()) {
+                Map<String, String> line = new LinkedHashMap<>();
+                line.put("fileName", entry.getKey());
+                line.put("presignedUrl", entry.getValue());
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
     @Override
     public FileDeleteResponseDto deleteFile(FileDeleteRequestDto requestDto) {
         Integer userId = requestDto.getUserId();
@@ -139,25 +227,56 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public void scheduleDeletion(Integer userId, Collection<String> fileUrls) {
+        List<S3DeleteOutbox> entries = new ArrayList<>();
+        List<String> variantSourceUrls = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isEmpty()) {
+                continue;
+            }
+            try {
+                validateFileUrl(fileUrl);
+                validateUserAccess(fileUrl, userId);
+                String key = extractS3KeyFromUrl(fileUrl);
+                entries.add(new S3DeleteOutbox(key));
+                // 원본 옆에 저장된 이미지 파생본도 함께 삭제 (없는 키는 S3가 성공으로 처리)
+                if (ImageVariant.supports(key)) {
+                    for (ImageVariant variant : ImageVariant.values()) {
+                        entries.add(new S3DeleteOutbox(variant.of(key)));
+                    }
+                    variantSourceUrls.add(fileUrl);
+                }
+            } catch (RestApiException e) {
+                // 잘못된 URL 하나 때문에 컨텐츠 삭제가 실패하지 않도록 건너뜀
+                log.warn("S3 파일 삭제 예약 제외 - userId: {}, fileUrl: {}, reason: {}",
+                        userId, fileUrl, e.getErrorCode().getCode());
+            }
+        }
+        if (!entries.isEmpty()) {
+            s3DeleteOutboxRepository.saveAll(entries);
+        }
+        // 삭제될 파생본을 응답에 내려주지 않도록 생성 완료 기록도 제거
+        if (!variantSourceUrls.isEmpty()) {
+            contentImageVariantRepository.deleteAllByIdInBatch(variantSourceUrls);
+        }
+    }
+
     @Override
     public String uploadFileWithPresignedUrl(String presignedUrl, MultipartFile file) {
         try {
-            // HTTP 클라이언트 설정
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofSeconds(30))
-                    .build();
-            
-            // HTTP 요청 생성
+            // 파일 크기와 관계없이 Presigned URL로 직접 전송 (서명 검증은 S3가 수행)
+            // 파일을 메모리에 올리지 않고 입력 스트림을 그대로 전송 (Content-Length는 파일 크기로 지정)
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(java.net.URI.create(presignedUrl))
-                    .PUT(HttpRequest.BodyPublishers.ofByteArray(file.getBytes()))
+                    .PUT(HttpRequest.BodyPublishers.fromPublisher(
+                            HttpRequest.BodyPublishers.ofInputStream(() -> openInputStream(file)), file.getSize()))
                     .header("Content-Type", file.getContentType())
-                    .timeout(Duration.ofSeconds(60))
+                    .timeout(Duration.ofSeconds(uploadTimeoutSeconds))
                     .build();
             
             // 요청 실행
-            HttpResponse<String> response = client.send(request, 
-                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
             
             if (response.statusCode() == 200) {
                 // Presigned URL에서 실제 S3 URL 추출 (쿼리 파라미터 제거)
@@ -167,7 +286,13 @@ public class S3ServiceImpl implements S3Service {
                          response.statusCode(), file.getOriginalFilename());
                 throw new RestApiException(S3ErrorStatus.FILE_UPLOAD_FAILED);
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (RestApiException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Presigned URL 업로드 중단 - fileName: {}", file.getOriginalFilename());
+            throw new RestApiException(S3ErrorStatus.FILE_UPLOAD_FAILED);
+        } catch (Exception e) {
             log.error("Presigned URL 업로드 중 오류 발생 - fileName: {}, error: {}", 
                      file.getOriginalFilename(), e.getMessage());
             throw new RestApiException(S3ErrorStatus.FILE_UPLOAD_FAILED);
@@ -175,37 +300,72 @@ public class S3ServiceImpl implements S3Service {
     }
 
     // Private helper methods
+    // NDJSON 스트림의 마지막 줄로 {"error": {"code": ..., "message": ...}}를 기록
+    private void writeErrorLine(OutputStream out, BaseCodeDto errorCode) throws IOException {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("code", errorCode.getCode());
+        error.put("message", errorCode.getMessage());
+        out.write(objectMapper.writeValueAsBytes(Map.of("error", error)));
+        out.write('\n');
+        out.flush();
+    }
+
     private URL createPresignedUrl(String fileName, Integer userId, int expirationMinutes) {
-        String userDirectory = "contents/users/" + userId + "/";
-        String fullFileName = userDirectory + fileName;
-        
-        Date expiration = new Date(System.currentTimeMillis() + expirationMinutes * 60 * 1000L);
+        return signPut(userDirectoryOf(userId) + fileName, expirationOf(expirationMinutes));
+    }
+
+    private Map<String, String> createBatchPresignedUrls(List<String> fileNames, Integer userId, int expirationMinutes) {
+        // 사용자 경로와 만료 시각은 배치 전체에서 한 번만 계산
+        String userDirectory = userDirectoryOf(userId);
+        Date expiration = expirationOf(expirationMinutes);
+
+        Map<String, String> presignedUrls = new LinkedHashMap<>();
+        for (CompletableFuture<Map<String, String>> chunk : submitChunks(fileNames, userDirectory, expiration)) {
+            presignedUrls.putAll(chunk.join());
+        }
+        return presignedUrls;
+    }
+
+    /**
+     * 파일 목록을 묶음으로 나눠 서명 스레드 풀에 제출합니다. 반환 목록은 요청 순서를 유지합니다.
+     */
+    private List<CompletableFuture<Map<String, String>>> submitChunks(List<String> fileNames, String userDirectory, Date expiration) {
+        List<CompletableFuture<Map<String, String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < fileNames.size(); from += presignChunkSize) {
+            List<String> chunk = fileNames.subList(from, Math.min(from + presignChunkSize, fileNames.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                Map<String, String> presignedUrls = new LinkedHashMap<>();
+                for (String fileName : chunk) {
+                    presignedUrls.put(fileName, signPut(userDirectory + fileName, expiration).toString());
+                }
+                return presignedUrls;
+            }, presignExecutor));
+        }
+        return chunks;
+    }
+
+    private InputStream openInputStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private URL signPut(String key, Date expiration) {
         GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(bucket, fullFileName)
+                new GeneratePresignedUrlRequest(bucket, key)
                         .withMethod(com.amazonaws.HttpMethod.PUT)
                         .withExpiration(expiration);
-        
         return amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
     }
 
-    private Map<String, String> createBatchPresignedUrls(List<String> fileNames, Integer userId, int expirationMinutes) {
-        Map<String, String> presignedUrls = new HashMap<>();
-        String userDirectory = "contents/users/" + userId + "/";
-        
-        for (String fileName : fileNames) {
-            String fullFileName = userDirectory + fileName;
-            Date expiration = new Date(System.currentTimeMillis() + expirationMinutes * 60 * 1000L);
-            
-            GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                    new GeneratePresignedUrlRequest(bucket, fullFileName)
-                            .withMethod(com.amazonaws.HttpMethod.PUT)
-                            .withExpiration(expiration);
-            
-            URL presignedUrl = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-            presignedUrls.put(fileName, presignedUrl.toString());
-        }
-        
-        return presignedUrls;
+    private String userDirectoryOf(Integer userId) {
+        return "contents/users/" + userId + "/";
+    }
+
+    private Date expirationOf(int expirationMinutes) {
+        return new Date(System.currentTimeMillis() + expirationMinutes * 60 * 1000L);
     }
 
     private void deleteFileFromS3(String fileUrl) {
@@ -265,9 +425,19 @@ public class S3ServiceImpl implements S3Service {
         if (userId == null) {
             throw new RestApiException(S3ErrorStatus.INVALID_USER_ID);
         }
+        long now = System.currentTimeMillis();
+        synchronized (existingUsers) {
+            Long expiresAt = existingUsers.get(userId);
+            if (expiresAt != null && expiresAt > now) {
+                return;
+            }
+        }
         if (!userRepository.existsById(userId)) {
             throw new RestApiException(S3ErrorStatus.USER_NOT_FOUND);
         }
+        synchronized (existingUsers) {
+            existingUsers.put(userId, now + userCacheTtlSeconds * 1000L);
+        }
     }
     
     private void validateFileName(String fileName) {
@@ -289,7 +459,7 @@ public class S3ServiceImpl implements S3Service {
         if (fileNames == null || fileNames.isEmpty()) {
             throw new RestApiException(S3ErrorStatus.EMPTY_FILE_LIST);
         }
-        if (fileNames.size() > 20) {
+        if (fileNames.size() > MAX_BATCH_FILES) {
             throw new RestApiException(S3ErrorStatus.TOO_MANY_FILES);
         }
         for (String fileName : fileNames) {
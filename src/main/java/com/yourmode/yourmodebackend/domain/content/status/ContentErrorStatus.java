@@ -14,9 +14,11 @@ public enum ContentErrorStatus implements BaseCodeInterface {
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "CONT-404-002", "해당 카테고리를 찾을 수 없습니다."),
     BODY_TYPE_NOT_FOUND(HttpStatus.NOT_FOUND, "CONT-404-003", "해당 바디타입을 찾을 수 없습니다."),
     INVALID_CONTENT_PARAMETER(HttpStatus.BAD_REQUEST, "CONT-400-001", "컨텐츠 요청 파라미터가 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "CONT-400-002", "유효하지 않은 커서입니다."),
     DB_INSERT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CONT-500-001", "컨텐츠 정보를 DB에 저장하는 중 오류가 발생했습니다."),
     DB_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CONT-500-002", "컨텐츠 정보 수정 중 오류가 발생했습니다."),
     DB_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CONT-500-003", "컨텐츠 정보 삭제 중 오류가 발생했습니다."),
+    SNAPSHOT_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CONT-500-008", "컨텐츠 상세 스냅샷을 읽는 중 오류가 발생했습니다."),
     BLOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "CONT-404-004", "해당 컨텐츠 블록을 찾을 수 없습니다."),
     IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "CONT-404-005", "해당 컨텐츠 이미지를 찾을 수 없습니다."),
     
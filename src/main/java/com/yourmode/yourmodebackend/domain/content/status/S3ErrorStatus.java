@@ -14,7 +14,7 @@ public enum S3ErrorStatus implements BaseCodeInterface {
     INVALID_FILE_NAME(HttpStatus.BAD_REQUEST, "S3-400-001", "유효하지 않은 파일명입니다."),
     INVALID_FILE_URL(HttpStatus.BAD_REQUEST, "S3-400-002", "유효하지 않은 파일 URL입니다."),
     INVALID_EXPIRATION_TIME(HttpStatus.BAD_REQUEST, "S3-400-003", "만료 시간은 1-60분 사이여야 합니다."),
-    TOO_MANY_FILES(HttpStatus.BAD_REQUEST, "S3-400-004", "한 번에 최대 20개 파일까지 가능합니다."),
+    TOO_MANY_FILES(HttpStatus.BAD_REQUEST, "S3-400-004", "한 번에 최대 500개 파일까지 가능합니다."),
     EMPTY_FILE_LIST(HttpStatus.BAD_REQUEST, "S3-400-005", "파일명 목록이 비어있습니다."),
     INVALID_PRESIGNED_URL(HttpStatus.BAD_REQUEST, "S3-400-006", "유효하지 않은 Presigned URL입니다."),
     PRESIGNED_URL_EXPIRED(HttpStatus.BAD_REQUEST, "S3-400-007", "Presigned URL이 만료되었습니다."),
@@ -0,0 +1,47 @@
+package com.yourmode.yourmodebackend.domain.content.util;
+
+import com.yourmode.yourmodebackend.domain.content.entity.Content;
+import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 컨텐츠 목록 커서 (created_at, id)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record ContentCursor(LocalDateTime createdAt, Integer id) {
+
+    private static final String DELIMITER = "_";
+
+    // 첫 페이지 조회용 커서 (모든 컨텐츠보다 뒤에 위치)
+    private static final ContentCursor FIRST = new ContentCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    public static ContentCursor of(Content content) {
+        return new ContentCursor(content.getCreatedAt(), content.getId());
+    }
+
+    // 커서 문자열 디코딩, 비어 있으면 첫 페이지
+    public static ContentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new ContentCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Integer.valueOf(decoded.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new RestApiException(ContentErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
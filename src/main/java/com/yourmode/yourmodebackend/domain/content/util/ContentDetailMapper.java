@@ -0,0 +1,88 @@
+package com.yourmode.yourmodebackend.domain.content.util;
+
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
+import com.yourmode.yourmodebackend.domain.content.entity.Content;
+import com.yourmode.yourmodebackend.domain.content.entity.ContentBlock;
+import com.yourmode.yourmodebackend.domain.content.entity.ContentBlockImage;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 컨텐츠 엔티티 → 상세 응답 DTO 변환 (생성/수정 응답과 상세 조회 스냅샷이 같은 변환을 사용)
+ * 좋아요/댓글/조회수는 채우지 않습니다.
+ */
+public final class ContentDetailMapper {
+
+    private ContentDetailMapper() {
+    }
+
+    /**
+     * 블록은 호출자가 로딩한 목록을 사용합니다. (카테고리/바디타입과 블록의 스타일/이미지는 로딩되어 있어야 함)
+     */
+    public static ContentDetailResponseDto toDetailDto(Content content, List<ContentBlock> blocks) {
+        ContentDetailResponseDto dto = new ContentDetailResponseDto();
+        dto.setId(content.getId());
+        dto.setTitle(content.getTitle());
+        dto.setMainImgUrl(content.getMainImgUrl());
+        dto.setRecommended(content.isRecommended());
+        dto.setPublishAt(content.getPublishAt());
+        dto.setCreatedAt(content.getCreatedAt());
+        dto.setEditedAt(content.getEditedAt());
+        // 카테고리 매핑
+        if (content.getContentCategories() != null) {
+            dto.setCategories(content.getContentCategories().stream().map(cat -> {
+                ContentDetailResponseDto.CategoryDto c = new ContentDetailResponseDto.CategoryDto();
+                c.setId(cat.getId());
+                c.setName(cat.getName());
+                return c;
+            }).collect(Collectors.toList()));
+        }
+        // 바디타입 매핑
+        if (content.getBodyTypes() != null) {
+            dto.setBodyTypes(content.getBodyTypes().stream().map(bt -> {
+                ContentDetailResponseDto.BodyTypeDto b = new ContentDetailResponseDto.BodyTypeDto();
+                b.setId(bt.getId());
+                b.setName(bt.getName());
+                return b;
+            }).collect(Collectors.toList()));
+        }
+        // 블록 매핑
+        if (blocks != null) {
+            dto.setBlocks(blocks.stream().map(ContentDetailMapper::toBlockDto).collect(Collectors.toList()));
+        }
+        return dto;
+    }
+
+    private static ContentDetailResponseDto.ContentBlockDto toBlockDto(ContentBlock block) {
+        ContentDetailResponseDto.ContentBlockDto b = new ContentDetailResponseDto.ContentBlockDto();
+        b.setBlockId(block.getId());
+        b.setBlockType(block.getBlockType());
+        b.setContentData(block.getContentData());
+        b.setBlockOrder(block.getBlockOrder());
+        // 스타일
+        if (block.getContentBlockStyle() != null) {
+            ContentDetailResponseDto.ContentBlockStyleDto style = new ContentDetailResponseDto.ContentBlockStyleDto();
+            style.setFontFamily(block.getContentBlockStyle().getFontFamily());
+            style.setFontSize(block.getContentBlockStyle().getFontSize());
+            style.setFontWeight(block.getContentBlockStyle().getFontWeight());
+            style.setTextColor(block.getContentBlockStyle().getTextColor());
+            style.setBackgroundColor(block.getContentBlockStyle().getBackgroundColor());
+            style.setTextAlign(block.getContentBlockStyle().getTextAlign());
+            b.setStyle(style);
+        }
+        // 이미지 (순서대로)
+        if (block.getImages() != null) {
+            b.setImages(block.getImages().stream()
+                    .sorted(Comparator.comparing(ContentBlockImage::getImageOrder))
+                    .map(img -> {
+                        ContentDetailResponseDto.ContentBlockImageDto i = new ContentDetailResponseDto.ContentBlockImageDto();
+                        i.setImageUrl(img.getImageUrl());
+                        i.setImageOrder(img.getImageOrder());
+                        return i;
+                    }).collect(Collectors.toList()));
+        }
+        return b;
+    }
+}
@@ -0,0 +1,48 @@
+package com.yourmode.yourmodebackend.domain.content.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 컨텐츠 이미지 파생본 크기
+ * 파생본은 원본과 같은 사용자 디렉토리에 "{원본 파일명(확장자 포함)}_w{너비}.jpg" 키로 저장합니다.
+ * (예: contents/users/1/photo.png → contents/users/1/photo.png_w320.jpg)
+ * 확장자를 남겨 두므로 photo.png와 photo.jpg처럼 이름만 같은 원본의 파생본이 겹치지 않습니다.
+ */
+public enum ImageVariant {
+    THUMBNAIL(320),
+    LIST(640),
+    DETAIL(1080);
+
+    private static final String USER_DIRECTORY = "contents/users/";
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("_w\\d+\\.jpg$");
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    // 파생본을 만드는 대상인 객체 키인지 (사용자 디렉토리에 업로드된 이미지, 파생본 자신은 제외)
+    public static boolean supports(String key) {
+        return key != null && key.startsWith(USER_DIRECTORY) && !isVariant(key);
+    }
+
+    /**
+     * 원본 키 또는 URL로부터 파생본 키 또는 URL을 만듭니다. 파생본 자신이면 null
+     * 대상인지는 URL이 아닌 객체 키로 supports에서 확인합니다.
+     */
+    public String of(String keyOrUrl) {
+        if (keyOrUrl == null || isVariant(keyOrUrl)) {
+            return null;
+        }
+        return keyOrUrl + "_w" + width + ".jpg";
+    }
+
+    private static boolean isVariant(String keyOrUrl) {
+        return VARIANT_SUFFIX.matcher(keyOrUrl).find();
+    }
+}
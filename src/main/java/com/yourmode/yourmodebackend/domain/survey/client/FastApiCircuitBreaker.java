@@ -0,0 +1,136 @@
+package com.yourmode.yourmodebackend.domain.survey.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FastAPI 진단 호출 서킷 브레이커
+ * 최근 N회 호출의 실패율이 기준을 넘으면 일정 시간 호출을 막아(OPEN) 바로 실패시키고,
+ * 시간이 지나면 시험 호출 1건(HALF_OPEN)의 결과로 복구 여부를 정합니다.
+ * 실패는 연결 실패/시간 초과/5xx 응답만 셉니다. (4xx는 서버가 정상 응답한 것으로 봄)
+ */
+@Slf4j
+@Component
+public class FastApiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    private final Counter rejectedCounter;
+
+    public FastApiCircuitBreaker(
+            @Value("${fastapi.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${fastapi.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${fastapi.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${fastapi.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+            MeterRegistry meterRegistry) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.rejectedCounter = Counter.builder("fastapi.circuit.rejected")
+                .description("서킷이 열려 바로 거절된 FastAPI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("FastAPI 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 호출 가능 여부를 확인합니다. true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과를 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                rejectedCounter.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                rejectedCounter.increment();
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && windowCount >= minimumCalls
+                && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 서버 상태와 무관하게 끝난 호출 (호출 전 거절, 인터럽트 등)
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("FastAPI 서킷 상태 변경 - {} -> {} (최근 실패 {}/{})", state, next, windowFailures, windowCount);
+        state = next;
+        probing = false;
+        if (next == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
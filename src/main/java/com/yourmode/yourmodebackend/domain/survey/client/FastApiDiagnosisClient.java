@@ -0,0 +1,291 @@
+package com.yourmode.yourmodebackend.domain.survey.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyResultFastApiResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.status.SurveyErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FastAPI 체형 진단 서버 클라이언트
+ * keep-alive 커넥션 풀을 공유하는 HTTP 클라이언트 하나를 재사용하며, 서버가 느리거나 죽었을 때 API 서버 전체가 묶이지 않도록
+ * 1) 동시 호출 수 제한(bulkhead) 2) 서킷 브레이커 3) 호출 전체 마감 시간(deadline) 4) 선택적 hedged 요청을 적용합니다.
+ * 호출이 오래 걸릴 수 있으므로 DB 트랜잭션 밖에서 호출해야 합니다.
+ */
+@Slf4j
+@Component
+public class FastApiDiagnosisClient {
+
+    // 남은 마감 시간을 FastAPI에 전달해 늦은 요청은 서버에서도 포기할 수 있게 함
+    private static final String DEADLINE_HEADER = "X-Request-Timeout-Ms";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final FastApiCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final URI diagnosisUri;
+    private final long deadlineNanos;
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitNanos;
+    private final boolean hedgeEnabled;
+    private final long hedgeDelayNanos;
+
+    private final Counter hedgeLaunchedCounter;
+    private final Counter hedgeWonCounter;
+    private final Counter hedgeSkippedCounter;
+
+    public FastApiDiagnosisClient(
+            @Value("${fastapi.diagnosis-url:https://fast.yourmode.co.kr/assistant/diagnosis}") String diagnosisUrl,
+            @Value("${fastapi.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${fastapi.deadline-ms:60000}") long deadlineMs,
+            @Value("${fastapi.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${fastapi.bulkhead.max-wait-ms:500}") long bulkheadMaxWaitMs,
+            @Value("${fastapi.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${fastapi.hedge.delay-ms:20000}") long hedgeDelayMs,
+            ObjectMapper objectMapper,
+            FastApiCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry) {
+        // FastAPI(uvicorn)는 HTTP/1.1만 지원하므로 업그레이드 협상 없이 HTTP/1.1 keep-alive로 연결
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.diagnosisUri = URI.create(diagnosisUrl);
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(bulkheadMaxWaitMs);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs);
+
+        Gauge.builder("fastapi.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 FastAPI 동시 호출 슬롯 수")
+                .register(meterRegistry);
+        this.hedgeLaunchedCounter = hedgeCounter("launched");
+        this.hedgeWonCounter = hedgeCounter("won");
+        this.hedgeSkippedCounter = hedgeCounter("skipped");
+    }
+
+    /**
+     * 텍스트 답변과 신체 정보로 체형 진단을 요청합니다.
+     * 진단 요청은 같은 입력에 같은 결과를 내는 조회성 호출이므로, hedged 요청으로 중복 전송해도 안전합니다.
+     *
+     * @throws RestApiException
+     *         - 동시 호출 수가 가득 찬 경우 FAST_API_BUSY
+     *         - 서킷이 열려 있는 경우 FAST_API_CIRCUIT_OPEN
+     *         - 마감 시간 안에 응답이 없는 경우 FAST_API_TIMEOUT
+     *         - 연결 실패 시 FAST_API_UNAVAILABLE
+     *         - 응답 본문이 없거나 해석할 수 없는 경우 FAST_API_INVALID_RESPONSE
+     *         - 그 밖의 호출 실패 시 FAST_API_FAILED
+     */
+    public SurveyResultFastApiResponseDto diagnose(SurveyTextAnswersRequestDto request) {
+        long deadline = System.nanoTime() + deadlineNanos;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            if (!acquireBulkhead(bulkheadMaxWaitNanos)) {
+                outcome = "bulkhead_full";
+                throw new RestApiException(SurveyErrorStatus.FAST_API_BUSY);
+            }
+            try {
+                if (!circuitBreaker.tryAcquire()) {
+                    outcome = "circuit_open";
+                    throw new RestApiException(SurveyErrorStatus.FAST_API_CIRCUIT_OPEN);
+                }
+                SurveyResultFastApiResponseDto response = call(request, deadline);
+                outcome = "success";
+                return response;
+            } catch (RestApiException e) {
+                if (e.getErrorCode().getCode().equals(SurveyErrorStatus.FAST_API_TIMEOUT.getCode().getCode())) {
+                    outcome = "timeout";
+                }
+                throw e;
+            } finally {
+                bulkhead.release();
+            }
+        } finally {
+            sample.stop(Timer.builder("fastapi.diagnosis")
+                    .description("FastAPI 체형 진단 호출 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 서킷 브레이커 허가를 받은 뒤의 실제 호출, 결과를 서킷 브레이커에 반영
+    private SurveyResultFastApiResponseDto call(SurveyTextAnswersRequestDto request, long deadline) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            circuitBreaker.onIgnored();
+            throw new RestApiException(SurveyErrorStatus.INVALID_FAST_REQUEST);
+        }
+
+        List<CompletableFuture<HttpResponse<byte[]>>> attempts = new ArrayList<>();
+        CompletableFuture<HttpResponse<byte[]>> hedge = null;
+        HttpResponse<byte[]> response;
+        try {
+            attempts.add(send(body, deadline));
+            if (hedgeEnabled && !awaitDone(attempts.get(0), Math.min(hedgeDelayNanos, remainingNanos(deadline)))) {
+                hedge = startHedge(body, deadline);
+                if (hedge != null) {
+                    attempts.add(hedge);
+                }
+            }
+            response = firstSuccess(attempts).get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure();
+            log.warn("FastAPI 진단 호출 시간 초과 - deadline: {}ms", TimeUnit.NANOSECONDS.toMillis(deadlineNanos));
+            throw new RestApiException(SurveyErrorStatus.FAST_API_TIMEOUT);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            if (e.getCause() instanceof HttpTimeoutException) {
+                log.warn("FastAPI 진단 호출 시간 초과 - error: {}", e.getCause().getMessage());
+                throw new RestApiException(SurveyErrorStatus.FAST_API_TIMEOUT);
+            }
+            log.warn("FastAPI 진단 서버 연결 실패 - error: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            throw new RestApiException(SurveyErrorStatus.FAST_API_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new RestApiException(SurveyErrorStatus.FAST_API_FAILED);
+        } catch (RuntimeException e) {
+            // 요청을 보내기 전에 실패한 경우 (요청 생성 오류, 실행기 거절 등), 허가를 돌려주지 않으면 HALF_OPEN 시험 호출이 영영 끝나지 않음
+            circuitBreaker.onIgnored();
+            log.warn("FastAPI 진단 요청 전송 실패 - error: {}", e.getMessage());
+            throw new RestApiException(SurveyErrorStatus.FAST_API_FAILED);
+        } finally {
+            // 늦게 끝난 요청은 취소해 커넥션과 FastAPI 자원을 돌려줌
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+
+        if (hedge != null && hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+            hedgeWonCounter.increment();
+        }
+
+        if (response.statusCode() >= 500) {
+            circuitBreaker.onFailure();
+            log.warn("FastAPI 진단 호출 실패 - status: {}", response.statusCode());
+            throw new RestApiException(SurveyErrorStatus.FAST_API_FAILED);
+        }
+        circuitBreaker.onSuccess();
+        if (response.statusCode() >= 300) {
+            log.warn("FastAPI 진단 요청 거절 - status: {}", response.statusCode());
+            throw new RestApiException(SurveyErrorStatus.FAST_API_FAILED);
+        }
+        if (response.body() == null || response.body().length == 0) {
+            throw new RestApiException(SurveyErrorStatus.FAST_API_INVALID_RESPONSE);
+        }
+        try {
+            return objectMapper.readValue(response.body(), SurveyResultFastApiResponseDto.class);
+        } catch (IOException e) {
+            log.warn("FastAPI 진단 응답 해석 실패 - error: {}", e.getMessage());
+            throw new RestApiException(SurveyErrorStatus.FAST_API_INVALID_RESPONSE);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(byte[] body, long deadline) {
+        Duration timeout = Duration.ofNanos(Math.max(1, remainingNanos(deadline)));
+        HttpRequest httpRequest = HttpRequest.newBuilder(diagnosisUri)
+                .timeout(timeout)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .header(DEADLINE_HEADER, String.valueOf(timeout.toMillis()))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    // 첫 요청이 hedge 지연 시간 안에 끝나지 않으면, 여유 슬롯이 있을 때만 같은 요청을 한 번 더 보냄
+    private CompletableFuture<HttpResponse<byte[]>> startHedge(byte[] body, long deadline) {
+        if (remainingNanos(deadline) <= 0 || !bulkhead.tryAcquire()) {
+            hedgeSkippedCounter.increment();
+            return null;
+        }
+        hedgeLaunchedCounter.increment();
+        CompletableFuture<HttpResponse<byte[]>> hedge;
+        try {
+            hedge = send(body, deadline);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+        hedge.whenComplete((result, error) -> bulkhead.release());
+        return hedge;
+    }
+
+    // 요청 중 하나라도 성공하면 그 응답으로, 모두 실패하면 마지막 실패로 완료
+    private CompletableFuture<HttpResponse<byte[]>> firstSuccess(List<CompletableFuture<HttpResponse<byte[]>>> attempts) {
+        CompletableFuture<HttpResponse<byte[]>> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<HttpResponse<byte[]>> attempt : attempts) {
+            attempt.whenComplete((result, error) -> {
+                if (error == null) {
+                    first.complete(result);
+                } else if (failures.incrementAndGet() == attempts.size()) {
+                    first.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            });
+        }
+        return first;
+    }
+
+    // 주어진 시간 안에 끝났는지(성공/실패 무관) 확인
+    private boolean awaitDone(CompletableFuture<?> future, long timeoutNanos) throws InterruptedException {
+        try {
+            future.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            // 실패는 이후 firstSuccess에서 처리
+        }
+        return true;
+    }
+
+    private boolean acquireBulkhead(long maxWaitNanos) {
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long remainingNanos(long deadline) {
+        return deadline - System.nanoTime();
+    }
+
+    private Counter hedgeCounter(String result) {
+        return Counter.builder("fastapi.hedge")
+                .description("FastAPI hedged 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -4,7 +4,10 @@ import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyAnswersSubmi
 import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
 import com.yourmode.yourmodebackend.domain.survey.dto.response.*;
 import com.yourmode.yourmodebackend.domain.survey.service.SurveyService;
+import com.yourmode.yourmodebackend.domain.survey.status.SurveyErrorStatus;
+import com.yourmode.yourmodebackend.domain.user.enums.UserRole;
 import com.yourmode.yourmodebackend.global.common.base.BaseResponse;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
 import com.yourmode.yourmodebackend.global.config.security.auth.CurrentUser;
 import com.yourmode.yourmodebackend.global.config.security.auth.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,9 +19,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
+import java.util.Map;
 import jakarta.validation.Valid;
 
 @RestController
@@ -26,6 +35,8 @@ import jakarta.validation.Valid;
 @RequiredArgsConstructor
 @Tag(name = "Survey: 골격 진단 설문 API", description = "질문/답변/이력 관련 API")
 public class SurveyController {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final SurveyService surveyService;
 
     @Operation(
@@ -109,7 +120,26 @@ public class SurveyController {
     })
     @GetMapping("/questions")
     public ResponseEntity<BaseResponse<List<SurveyQuestionWithOptionsResponseDto>>> getAllQuestionsWithOptions() {
-        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getAllQuestionsWithOptions()));
+        // 카탈로그 버전을 ETag로 내려 If-None-Match가 같으면 304로 응답
+        return ResponseEntity.ok()
+                .eTag(surveyService.getSurveyCatalogVersion())
+                .body(BaseResponse.onSuccess(surveyService.getAllQuestionsWithOptions()));
+    }
+
+    @Operation(
+        summary = "설문 카탈로그 갱신 (관리자)",
+        description = "설문 질문/선택지를 DB에서 다시 읽어 모든 서버의 메모리 카탈로그를 갱신합니다. 질문/선택지를 수정한 뒤 호출합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "갱신 성공 (result: 새 카탈로그 버전)"),
+        @ApiResponse(responseCode = "403", description = "관리자가 아님")
+    })
+    @PostMapping("/catalog/reload")
+    public ResponseEntity<BaseResponse<String>> reloadSurveyCatalog(@CurrentUser PrincipalDetails userDetails) {
+        if (userDetails.getRole() != UserRole.ADMIN) {
+            throw new AccessDeniedException("관리자만 접근할 수 있습니다.");
+        }
+        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.reloadSurveyCatalog()));
     }
 
     @Operation(
@@ -255,8 +285,10 @@ public class SurveyController {
     }
 
     @Operation(
-        summary = "내 설문 이력+답변 전체 조회", 
-        description = "사용자의 모든 설문 이력과 각 이력의 상세 답변을 조회합니다. 최신 이력부터 정렬되어 반환됩니다."
+        summary = "내 설문 이력+답변 전체 조회 (Deprecated)", 
+        description = "사용자의 모든 설문 이력과 각 이력의 상세 답변을 조회합니다. 최신 이력부터 정렬되어 반환됩니다. " +
+                     "이력 수만큼 응답이 커지므로 GET /api/surveys/histories/me/summaries와 GET /api/surveys/histories/answers를 사용하세요.",
+        deprecated = true
     )
     @ApiResponses({
         @ApiResponse(
@@ -331,11 +363,49 @@ public class SurveyController {
             )
         )
     })
+    @Deprecated
     @GetMapping("/histories/me")
     public ResponseEntity<BaseResponse<List<SurveyHistoryWithAnswersResponseDto>>> getMySurveyHistoriesWithAnswers(@CurrentUser PrincipalDetails userDetails) {
         return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyHistoriesWithAnswers(userDetails.getUserId())));
     }
 
+    @Operation(
+        summary = "내 설문 이력 요약 페이지 조회",
+        description = "사용자의 설문 이력을 최신순으로 페이지 단위로 조회합니다. 각 이력은 ID, 응답 일시, 답변 수만 포함하며 " +
+                     "답변은 GET /api/surveys/histories/{historyId}/answers 또는 GET /api/surveys/histories/answers로 따로 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공 (이력이 없으면 빈 목록)"),
+        @ApiResponse(responseCode = "400", description = "페이지 번호가 음수이거나 크기가 1~50 범위 밖 (SURVEY-400-008)"),
+        @ApiResponse(responseCode = "500", description = "DB 조회 오류 (SURVEY-500-003)")
+    })
+    @GetMapping("/histories/me/summaries")
+    public ResponseEntity<BaseResponse<SurveyHistoryPageResponseDto>> getMySurveyHistorySummaries(
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int size,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        Pageable pageable = pageOf(page, size);
+        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyHistorySummaries(userDetails.getUserId(), pageable)));
+    }
+
+    @Operation(
+        summary = "여러 설문 이력의 답변 일괄 조회",
+        description = "여러 설문 이력의 답변을 한 번에 조회합니다. 결과는 이력 ID별 답변 목록이며, 최대 50개 이력까지 요청할 수 있습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "이력 ID가 없거나 50개 초과 (SURVEY-400-008)"),
+        @ApiResponse(responseCode = "403", description = "없거나 본인의 것이 아닌 이력 포함 (SURVEY-403-001)")
+    })
+    @GetMapping("/histories/answers")
+    public ResponseEntity<BaseResponse<Map<Integer, List<SurveyAnswerResponseDto>>>> getSurveyAnswersByHistories(
+            @Parameter(description = "설문 이력 ID 목록", example = "1,2,3") @RequestParam List<Integer> historyIds,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyAnswersByHistories(historyIds, userDetails.getUserId())));
+    }
+
     @Operation(
         summary = "설문 답변 목록 조회", 
         description = "특정 설문 이력의 모든 답변을 조회합니다. 질문과 선택한 옵션 정보가 포함됩니다."
@@ -446,6 +516,28 @@ public class SurveyController {
         return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyAnswersByHistory(historyId, userDetails.getUserId())));
     }
 
+    @Operation(
+        summary = "특정 설문 이력의 답변 페이지 조회",
+        description = "설문 이력 ID에 해당하는 답변을 저장 순서대로 페이지 단위로 조회합니다. 본인의 설문 이력만 조회할 수 있습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "페이지 번호가 음수이거나 크기가 1~50 범위 밖 (SURVEY-400-008)"),
+        @ApiResponse(responseCode = "403", description = "본인의 설문 이력이 아님"),
+        @ApiResponse(responseCode = "404", description = "설문 이력 없음"),
+        @ApiResponse(responseCode = "500", description = "DB 조회 오류 (SURVEY-500-002)")
+    })
+    @GetMapping("/histories/{historyId}/answers/page")
+    public ResponseEntity<BaseResponse<SurveyAnswerPageResponseDto>> getSurveyAnswersByHistoryPage(
+            @PathVariable Integer historyId,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "15") @RequestParam(defaultValue = "15") int size,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        Pageable pageable = pageOf(page, size);
+        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyAnswersByHistory(historyId, userDetails.getUserId(), pageable)));
+    }
+
     @Operation(
         summary = "저장된 설문 이력 분석", 
         description = "이미 저장된 설문 이력의 답변을 FastAPI로 분석하여 체형 진단 결과를 반환합니다. 분석 결과는 자동으로 DB에 저장됩니다."
@@ -685,6 +777,71 @@ public class SurveyController {
         return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.analyzeSurveyAnswersWithFast(dto, userDetails.getUserId())));
     }
 
+    @Operation(
+        summary = "직접 답변 체형 분석 작업 등록",
+        description = "POST /api/surveys/analysis와 같은 분석을 비동기 작업으로 등록하고 작업 ID를 바로 반환합니다. " +
+                     "결과는 GET /api/surveys/analysis/jobs/{jobId}로 조회하거나 /events로 SSE 구독할 수 있습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "작업 등록 성공 (status: PENDING)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "429", description = "분석 작업 대기열 초과 (SURVEY-429-001)")
+    })
+    @PostMapping("/analysis/jobs")
+    public ResponseEntity<BaseResponse<SurveyAnalysisJobResponseDto>> submitAnalysisJob(
+            @RequestBody SurveyTextAnswersRequestDto dto,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.accepted().body(BaseResponse.onSuccess(surveyService.submitAnalysisJob(dto, userDetails.getUserId())));
+    }
+
+    @Operation(
+        summary = "설문 이력 체형 분석 작업 등록",
+        description = "POST /api/surveys/histories/{historyId}/analysis와 같은 분석을 비동기 작업으로 등록하고 작업 ID를 바로 반환합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "작업 등록 성공 (status: PENDING)"),
+        @ApiResponse(responseCode = "403", description = "본인의 설문 이력이 아님"),
+        @ApiResponse(responseCode = "404", description = "설문 이력 또는 답변 없음"),
+        @ApiResponse(responseCode = "429", description = "분석 작업 대기열 초과 (SURVEY-429-001)")
+    })
+    @PostMapping("/histories/{historyId}/analysis/jobs")
+    public ResponseEntity<BaseResponse<SurveyAnalysisJobResponseDto>> submitHistoryAnalysisJob(
+            @PathVariable Integer historyId,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.accepted().body(BaseResponse.onSuccess(surveyService.submitHistoryAnalysisJob(historyId, userDetails.getUserId())));
+    }
+
+    @Operation(
+        summary = "체형 분석 작업 상태 조회",
+        description = "분석 작업의 상태를 조회합니다. COMPLETED이면 result에 분석 결과가, FAILED이면 errorCode/errorMessage가 포함됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "403", description = "본인의 작업이 아님"),
+        @ApiResponse(responseCode = "404", description = "작업이 없거나 만료됨 (SURVEY-404-006)")
+    })
+    @GetMapping("/analysis/jobs/{jobId}")
+    public ResponseEntity<BaseResponse<SurveyAnalysisJobResponseDto>> getAnalysisJob(
+            @PathVariable String jobId,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getAnalysisJob(jobId, userDetails.getUserId())));
+    }
+
+    @Operation(
+        summary = "체형 분석 작업 완료 구독 (SSE)",
+        description = "분석 작업 상태를 Server-Sent Events로 구독합니다. 연결 직후 현재 상태를, 완료되면 최종 상태를 \"job\" 이벤트로 보낸 뒤 연결을 닫습니다."
+    )
+    @GetMapping(value = "/analysis/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAnalysisJob(
+            @PathVariable String jobId,
+            @CurrentUser PrincipalDetails userDetails
+    ) {
+        return surveyService.subscribeAnalysisJob(jobId, userDetails.getUserId());
+    }
+
     @Operation(
         summary = "내 설문 결과 목록 조회", 
         description = "사용자의 모든 체형 진단 결과 목록을 조회합니다. 최신 결과부터 정렬되어 반환됩니다."
@@ -856,4 +1013,12 @@ public class SurveyController {
     ) {
         return ResponseEntity.ok(BaseResponse.onSuccess(surveyService.getSurveyResultDetail(resultId, userDetails.getUserId())));
     }
-} 
\ No newline at end of file
+
+    // 페이지 번호는 0 이상, 크기는 1~50만 허용 (PageRequest.of는 범위 밖 값에 예외를 던져 500이 됨)
+    private static Pageable pageOf(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_SURVEY_PARAMETER);
+        }
+        return PageRequest.of(page, size);
+    }
+}
@@ -0,0 +1,39 @@
+package com.yourmode.yourmodebackend.domain.survey.dto.response;
+
+import com.yourmode.yourmodebackend.domain.survey.enums.SurveyAnalysisJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "설문 분석 작업 상태 응답 DTO")
+public class SurveyAnalysisJobResponseDto {
+
+    @Schema(description = "작업 ID", example = "3f0c9a4e-5b1d-4c57-9a55-8f3f1f1f2a10")
+    private String jobId;
+
+    @Schema(description = "작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)", example = "COMPLETED")
+    private SurveyAnalysisJobStatus status;
+
+    @Schema(description = "분석 결과 (COMPLETED인 경우)")
+    private SurveyResultFastApiResponseDto result;
+
+    @Schema(description = "에러 코드 (FAILED인 경우)", example = "SURVEY-502-001")
+    private String errorCode;
+
+    @Schema(description = "에러 메시지 (FAILED인 경우)", example = "체형 분석 서비스 호출에 실패했습니다.")
+    private String errorMessage;
+
+    @Schema(description = "작업 생성일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 완료일시")
+    private LocalDateTime completedAt;
+}
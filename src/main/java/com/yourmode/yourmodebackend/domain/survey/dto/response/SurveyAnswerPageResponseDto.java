@@ -0,0 +1,25 @@
+package com.yourmode.yourmodebackend.domain.survey.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "설문 답변 페이지 응답 DTO")
+public class SurveyAnswerPageResponseDto {
+    @Schema(description = "답변 목록")
+    private List<SurveyAnswerResponseDto> answers;
+    @Schema(description = "전체 답변 수", example = "15")
+    private Long totalCount;
+    @Schema(description = "현재 페이지 (0부터 시작)", example = "0")
+    private Integer currentPage;
+    @Schema(description = "전체 페이지 수", example = "2")
+    private Integer totalPages;
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,25 @@
+package com.yourmode.yourmodebackend.domain.survey.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "설문 내역 요약 페이지 응답 DTO")
+public class SurveyHistoryPageResponseDto {
+    @Schema(description = "설문 내역 요약 목록 (최신순)")
+    private List<SurveyHistorySummaryDto> histories;
+    @Schema(description = "전체 설문 내역 수", example = "3")
+    private Long totalCount;
+    @Schema(description = "현재 페이지 (0부터 시작)", example = "0")
+    private Integer currentPage;
+    @Schema(description = "전체 페이지 수", example = "1")
+    private Integer totalPages;
+    @Schema(description = "다음 페이지 존재 여부", example = "false")
+    private boolean hasNext;
+}
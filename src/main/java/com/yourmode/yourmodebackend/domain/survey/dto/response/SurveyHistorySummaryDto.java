@@ -0,0 +1,21 @@
+package com.yourmode.yourmodebackend.domain.survey.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "설문 내역 요약 DTO (답변은 별도 조회)")
+public class SurveyHistorySummaryDto {
+    @Schema(description = "설문 내역 ID", example = "1")
+    private Integer historyId;
+    @Schema(description = "설문 응답 일시", example = "2025-07-17T12:00:00.000")
+    private LocalDateTime createdAt;
+    @Schema(description = "답변 수", example = "15")
+    private Long answerCount;
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "survey_answers")
+// 이력별 답변 조회용 인덱스 (질문/선택지 FK까지 포함해 답변 행을 읽지 않고 조인 가능)
+@Table(name = "survey_answers", indexes = @Index(name = "idx_survey_answers_history_question_option",
+        columnList = "survey_history_id, survey_question_id, survey_option_id"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,7 +9,8 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "survey_histories")
+// 사용자별 최신순 이력 조회용 인덱스
+@Table(name = "survey_histories", indexes = @Index(name = "idx_survey_histories_user_created_at", columnList = "user_id, created_at"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,12 @@
+package com.yourmode.yourmodebackend.domain.survey.enums;
+
+public enum SurveyAnalysisJobStatus {
+    PENDING,    // 대기열에서 실행 대기 중
+    RUNNING,    // FastAPI 분석 진행 중
+    COMPLETED,  // 분석 완료 (결과 저장됨)
+    FAILED;     // 분석 실패
+
+    public boolean isDone() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
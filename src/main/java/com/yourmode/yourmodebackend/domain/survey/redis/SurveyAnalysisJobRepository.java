@@ -0,0 +1,55 @@
+package com.yourmode.yourmodebackend.domain.survey.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyAnalysisJobResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 설문 분석 작업 상태 저장소
+ * 작업 상태를 소유자 ID와 함께 JSON으로 저장하므로, 어느 서버에서든 조회할 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyAnalysisJobRepository {
+
+    private static final String KEY_PREFIX = "survey:analysis:job:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${survey.analysis-job.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    public record StoredJob(Integer userId, SurveyAnalysisJobResponseDto job) {
+    }
+
+    // 작업 상태 저장 (TTL 갱신)
+    public void save(Integer userId, SurveyAnalysisJobResponseDto job) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + job.getJobId(),
+                    objectMapper.writeValueAsString(new StoredJob(userId, job)), Duration.ofSeconds(ttlSeconds));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 작업 상태 조회, 없거나 만료되었으면 empty
+    public Optional<StoredJob> find(String jobId) {
+        String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, StoredJob.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
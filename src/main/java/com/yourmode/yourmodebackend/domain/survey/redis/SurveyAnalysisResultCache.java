@@ -0,0 +1,136 @@
+package com.yourmode.yourmodebackend.domain.survey.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyResultFastApiResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 설문 분석 결과 캐시
+ * 같은 답변/성별/키/몸무게 요청은 같은 진단 결과를 받으므로, 요청의 정규화된 해시를 키로 FastAPI 응답을 저장합니다.
+ * 캐시는 보조 수단이므로 Redis 오류는 캐시 미스로 처리합니다.
+ * 여러 서버에 같은 요청이 동시에 들어올 때 FastAPI를 한 번만 호출하도록 키별 짧은 잠금도 제공합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SurveyAnalysisResultCache {
+
+    private static final String KEY_PREFIX = "survey:analysis:result:";
+    private static final String LOCK_KEY_PREFIX = "survey:analysis:lock:";
+    // 자신이 잡은 잠금만 해제 (만료 후 다른 서버가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 필드 구분자 (답변 본문에 나타나지 않는 제어 문자)
+    private static final char SEPARATOR = '\u001F';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${survey.analysis-cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    // 진단 모델이 바뀌면 값을 올려 이전 결과를 무효화
+    @Value("${survey.analysis-cache.version:v1}")
+    private String version;
+
+    // FastAPI 호출 마감 시간(fastapi.deadline-ms)보다 길게 두어 호출 중에 잠금이 풀리지 않도록 함
+    @Value("${survey.analysis-cache.lock-ttl-ms:65000}")
+    private long lockTtlMs;
+
+    /**
+     * 요청의 캐시 키를 만듭니다.
+     * 답변은 앞뒤 공백을 제거하고, 키/몸무게는 164.5와 164.50처럼 표기만 다른 값이 같은 키가 되도록 정규화합니다.
+     */
+    public String keyOf(SurveyTextAnswersRequestDto dto) {
+        StringBuilder canonical = new StringBuilder(version);
+        for (String answer : dto.getAnswers()) {
+            canonical.append(SEPARATOR).append(answer == null ? "" : answer.strip());
+        }
+        canonical.append(SEPARATOR).append(dto.getGender() == null ? "" : dto.getGender().strip())
+                .append(SEPARATOR).append(normalize(dto.getHeight()))
+                .append(SEPARATOR).append(normalize(dto.getWeight()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시된 결과 조회, 없거나 조회 실패 시 empty
+    public Optional<SurveyResultFastApiResponseDto> find(String key) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return json == null ? Optional.empty()
+                    : Optional.of(objectMapper.readValue(json, SurveyResultFastApiResponseDto.class));
+        } catch (Exception e) {
+            log.warn("설문 분석 결과 캐시 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 결과 저장 (실패해도 무시)
+    public void save(String key, SurveyResultFastApiResponseDto result) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + key,
+                    objectMapper.writeValueAsString(result), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("설문 분석 결과 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 키의 FastAPI 호출 잠금을 잡습니다. (SET NX PX)
+     * 다른 서버가 잡고 있으면 false, Redis 오류 시에는 호출을 막지 않도록 true를 반환합니다.
+     */
+    public boolean tryLock(String key, String owner) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY_PREFIX + key, owner, Duration.ofMillis(lockTtlMs));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("설문 분석 잠금 획득 실패 - key: {}, error: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    // 다른 서버가 잠금을 잡고 있는지 (조회 실패 시 false)
+    public boolean isLocked(String key) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_KEY_PREFIX + key));
+        } catch (Exception e) {
+            log.warn("설문 분석 잠금 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    // 잠금 해제 (실패해도 TTL 뒤 만료되므로 무시)
+    public void unlock(String key, String owner) {
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), owner);
+        } catch (Exception e) {
+            log.warn("설문 분석 잠금 해제 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private String normalize(Double value) {
+        return value == null ? "" : BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+}
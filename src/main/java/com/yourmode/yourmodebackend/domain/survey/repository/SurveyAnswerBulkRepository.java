@@ -0,0 +1,62 @@
+package com.yourmode.yourmodebackend.domain.survey.repository;
+
+import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyAnswersSubmitRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 설문 제출(이력 + 답변) 일괄 저장
+ * IDENTITY 엔티티는 Hibernate가 INSERT를 묶지 못하므로, 이력 INSERT 1개와 답변 다중 행 INSERT 1개로 저장합니다.
+ * 호출자의 트랜잭션 안에서 호출해야 하며, 질문/선택지 검증은 호출자가 먼저 끝내야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyAnswerBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 설문 이력 행을 저장하고 생성된 ID를 반환합니다.
+     * 사용자가 없으면 FK 위반(DataIntegrityViolationException)이 발생합니다.
+     */
+    public Integer insertHistory(Integer userId, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO survey_histories (created_at, user_id) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setTimestamp(1, Timestamp.valueOf(createdAt));
+            ps.setInt(2, userId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+
+    /**
+     * 설문 이력에 답변들을 다중 행 INSERT 한 문장으로 저장합니다.
+     */
+    public void insertAnswers(Integer historyId, List<SurveyAnswersSubmitRequestDto.Answer> answers) {
+        if (answers == null || answers.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO survey_answers (survey_history_id, survey_question_id, survey_option_id) VALUES ");
+        List<Object> params = new ArrayList<>(answers.size() * 3);
+        for (int i = 0; i < answers.size(); i++) {
+            SurveyAnswersSubmitRequestDto.Answer answer = answers.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?)");
+            Collections.addAll(params, historyId, answer.getQuestionId(), answer.getOptionId());
+        }
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -1,7 +1,36 @@
 package com.yourmode.yourmodebackend.domain.survey.repository;
 
 import com.yourmode.yourmodebackend.domain.survey.entity.SurveyAnswer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Integer> {
-} 
\ No newline at end of file
+
+    /**
+     * 특정 설문 이력의 답변을 질문/선택지와 함께 저장 순서대로 조회
+     */
+    @Query("SELECT sa FROM SurveyAnswer sa JOIN FETCH sa.surveyQuestion JOIN FETCH sa.surveyOption " +
+           "WHERE sa.surveyHistory.id = :historyId ORDER BY sa.id ASC")
+    List<SurveyAnswer> findAllByHistoryIdWithQuestionAndOption(@Param("historyId") Integer historyId);
+
+    /**
+     * 여러 설문 이력의 답변을 질문/선택지와 함께 이력별 저장 순서대로 한 번에 조회
+     */
+    @Query("SELECT sa FROM SurveyAnswer sa JOIN FETCH sa.surveyQuestion JOIN FETCH sa.surveyOption " +
+           "WHERE sa.surveyHistory.id IN :historyIds ORDER BY sa.surveyHistory.id ASC, sa.id ASC")
+    List<SurveyAnswer> findAllByHistoryIdInWithQuestionAndOption(@Param("historyIds") Collection<Integer> historyIds);
+
+    /**
+     * 특정 설문 이력의 답변을 질문/선택지와 함께 페이지 단위로 조회
+     */
+    @Query(value = "SELECT sa FROM SurveyAnswer sa JOIN FETCH sa.surveyQuestion JOIN FETCH sa.surveyOption " +
+                   "WHERE sa.surveyHistory.id = :historyId ORDER BY sa.id ASC",
+           countQuery = "SELECT COUNT(sa) FROM SurveyAnswer sa WHERE sa.surveyHistory.id = :historyId")
+    Page<SurveyAnswer> findByHistoryIdWithQuestionAndOption(@Param("historyId") Integer historyId, Pageable pageable);
+}
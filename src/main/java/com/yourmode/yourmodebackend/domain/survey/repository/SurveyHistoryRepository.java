@@ -1,11 +1,35 @@
 package com.yourmode.yourmodebackend.domain.survey.repository;
 
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyHistorySummaryDto;
 import com.yourmode.yourmodebackend.domain.survey.entity.SurveyHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface SurveyHistoryRepository extends JpaRepository<SurveyHistory, Integer> {
     @EntityGraph(attributePaths = {"answers.surveyQuestion", "answers.surveyOption"})
     List<SurveyHistory> findAllByUserIdOrderByCreatedAtDesc(Integer userId);
-} 
\ No newline at end of file
+
+    /**
+     * 사용자의 설문 이력 요약(ID, 응답 일시, 답변 수)을 최신순으로 페이지 조회 (엔티티/답변 미적재)
+     */
+    @Query(value = "SELECT new com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyHistorySummaryDto(h.id, h.createdAt, COUNT(a.id)) " +
+                   "FROM SurveyHistory h LEFT JOIN h.answers a " +
+                   "WHERE h.user.id = :userId " +
+                   "GROUP BY h.id, h.createdAt " +
+                   "ORDER BY h.createdAt DESC, h.id DESC",
+           countQuery = "SELECT COUNT(h) FROM SurveyHistory h WHERE h.user.id = :userId")
+    Page<SurveyHistorySummaryDto> findSummariesByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 주어진 이력 ID 중 사용자 본인의 이력 ID만 조회
+     */
+    @Query("SELECT h.id FROM SurveyHistory h WHERE h.id IN :historyIds AND h.user.id = :userId")
+    List<Integer> findIdsByIdInAndUserId(@Param("historyIds") Collection<Integer> historyIds, @Param("userId") Integer userId);
+}
@@ -0,0 +1,195 @@
+package com.yourmode.yourmodebackend.domain.survey.service;
+
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyAnalysisJobResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyResultFastApiResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.enums.SurveyAnalysisJobStatus;
+import com.yourmode.yourmodebackend.domain.survey.redis.SurveyAnalysisJobRepository;
+import com.yourmode.yourmodebackend.domain.survey.status.SurveyErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import com.yourmode.yourmodebackend.global.common.exception.code.BaseCodeDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 설문 분석 작업 실행기
+ * 분석 요청을 제한된 크기의 스레드 풀에서 실행하고, 작업 상태는 Redis에 저장합니다.
+ * 작업이 끝나면 Pub/Sub으로 완료를 알려, 어느 서버에 연결된 SSE 구독자든 결과를 받을 수 있게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyAnalysisJobRunner implements MessageListener {
+
+    private static final String DONE_CHANNEL = "survey:analysis:job:done";
+    private static final String EVENT_NAME = "job";
+
+    private final SurveyAnalysisJobRepository surveyAnalysisJobRepository;
+    @Qualifier("surveyAnalysisExecutor")
+    private final ThreadPoolTaskExecutor surveyAnalysisExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${survey.analysis-job.sse-timeout-ms:120000}")
+    private long sseTimeoutMs;
+
+    // 이 서버에 연결된 작업별 SSE 구독자
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DONE_CHANNEL));
+    }
+
+    /**
+     * 분석 작업을 등록하고 바로 반환합니다. 분석은 작업 스레드 풀에서 실행됩니다.
+     *
+     * @throws RestApiException 대기열이 가득 찬 경우 ANALYSIS_REQUEST_LIMIT_EXCEEDED
+     */
+    public SurveyAnalysisJobResponseDto submit(Integer userId, Supplier<SurveyResultFastApiResponseDto> analysis) {
+        SurveyAnalysisJobResponseDto job = SurveyAnalysisJobResponseDto.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(SurveyAnalysisJobStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        surveyAnalysisJobRepository.save(userId, job);
+        try {
+            surveyAnalysisExecutor.execute(() -> run(userId, job, analysis));
+        } catch (TaskRejectedException e) {
+            fail(userId, job, SurveyErrorStatus.ANALYSIS_REQUEST_LIMIT_EXCEEDED.getCode());
+            throw new RestApiException(SurveyErrorStatus.ANALYSIS_REQUEST_LIMIT_EXCEEDED);
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     *
+     * @throws RestApiException
+     *         - 작업이 없거나 만료된 경우 ANALYSIS_JOB_NOT_FOUND
+     *         - 본인의 작업이 아닌 경우 FORBIDDEN_SURVEY_ACCESS
+     */
+    public SurveyAnalysisJobResponseDto find(String jobId, Integer userId) {
+        SurveyAnalysisJobRepository.StoredJob stored = surveyAnalysisJobRepository.find(jobId)
+                .orElseThrow(() -> new RestApiException(SurveyErrorStatus.ANALYSIS_JOB_NOT_FOUND));
+        if (!stored.userId().equals(userId)) {
+            throw new RestApiException(SurveyErrorStatus.FORBIDDEN_SURVEY_ACCESS);
+        }
+        return stored.job();
+    }
+
+    /**
+     * 작업 완료를 SSE로 구독합니다. 현재 상태를 먼저 보내고, 완료되면 최종 상태를 보낸 뒤 연결을 닫습니다.
+     */
+    public SseEmitter subscribe(String jobId, Integer userId) {
+        SurveyAnalysisJobResponseDto current = find(jobId, userId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (current.getStatus().isDone()) {
+            sendAndComplete(emitter, current);
+            return emitter;
+        }
+
+        // 추가/제거를 키 단위로 원자적으로 처리해, 비어 있는 목록 제거와 새 구독이 엇갈리지 않도록 함
+        emitters.compute(jobId, (k, subscribers) -> {
+            List<SseEmitter> list = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+
+        // 등록 직전에 완료되어 알림을 놓친 경우를 위해 한 번 더 확인
+        SurveyAnalysisJobResponseDto latest = find(jobId, userId);
+        if (latest.getStatus().isDone()) {
+            sendAndComplete(emitter, latest);
+        } else {
+            send(emitter, latest);
+        }
+        return emitter;
+    }
+
+    // 다른 서버(또는 이 서버)에서 발행한 작업 완료 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String jobId = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<SseEmitter> subscribers = emitters.remove(jobId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        surveyAnalysisJobRepository.find(jobId).ifPresentOrElse(
+                stored -> subscribers.forEach(emitter -> sendAndComplete(emitter, stored.job())),
+                () -> subscribers.forEach(SseEmitter::complete));
+    }
+
+    // 마지막 구독자가 빠지면 작업 키도 제거 (완료 알림을 받지 못한 작업의 키가 남지 않도록)
+    private void unsubscribe(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (k, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void run(Integer userId, SurveyAnalysisJobResponseDto job, Supplier<SurveyResultFastApiResponseDto> analysis) {
+        job.setStatus(SurveyAnalysisJobStatus.RUNNING);
+        surveyAnalysisJobRepository.save(userId, job);
+        try {
+            job.setResult(analysis.get());
+            job.setStatus(SurveyAnalysisJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            surveyAnalysisJobRepository.save(userId, job);
+        } catch (RestApiException e) {
+            fail(userId, job, e.getErrorCode());
+        } catch (Exception e) {
+            log.error("설문 분석 작업 실패 - jobId: {}, error: {}", job.getJobId(), e.getMessage());
+            fail(userId, job, SurveyErrorStatus.FAST_API_FAILED.getCode());
+        }
+        stringRedisTemplate.convertAndSend(DONE_CHANNEL, job.getJobId());
+    }
+
+    private void fail(Integer userId, SurveyAnalysisJobResponseDto job, BaseCodeDto error) {
+        job.setStatus(SurveyAnalysisJobStatus.FAILED);
+        job.setErrorCode(error.getCode());
+        job.setErrorMessage(error.getMessage());
+        job.setCompletedAt(LocalDateTime.now());
+        surveyAnalysisJobRepository.save(userId, job);
+    }
+
+    private void sendAndComplete(SseEmitter emitter, SurveyAnalysisJobResponseDto job) {
+        if (send(emitter, job)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SurveyAnalysisJobResponseDto job) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(job));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.yourmode.yourmodebackend.domain.survey.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyOptionResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyQuestionWithOptionsResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.entity.SurveyOption;
+import com.yourmode.yourmodebackend.domain.survey.entity.SurveyQuestion;
+import com.yourmode.yourmodebackend.domain.survey.repository.SurveyQuestionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 설문 질문/선택지 카탈로그 (메모리 스냅샷)
+ * 거의 바뀌지 않는 질문/선택지를 시작 시 한 번 읽어 불변 스냅샷으로 보관하고, 조회 응답과 답변 검증을 DB 없이 처리합니다.
+ * 질문/선택지를 바꾼 뒤에는 reload로 다시 읽으며, Pub/Sub으로 모든 서버에 다시 읽도록 알립니다.
+ * 누락된 알림이 있어도 주기적으로 다시 읽으므로 오래 어긋나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyCatalog implements MessageListener {
+
+    private static final String RELOAD_CHANNEL = "survey:catalog:reload";
+
+    private final SurveyQuestionRepository surveyQuestionRepository;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 불변 카탈로그 스냅샷
+     * 질문/선택지 ID는 작은 자동 증가 값이므로 ID를 인덱스로 쓰는 배열로 소속 관계를 저장합니다.
+     *
+     * @param version 응답 JSON의 해시 (모든 서버에서 같은 내용이면 같은 값, ETag로 사용)
+     * @param questions 순서대로 정렬된 질문/선택지 응답 (수정 불가)
+     */
+    public record Snapshot(String version,
+                           List<SurveyQuestionWithOptionsResponseDto> questions,
+                           BitSet questionIds,
+                           int[] questionIdByOptionId) {
+
+        public boolean hasQuestion(Integer questionId) {
+            return questionId != null && questionId >= 0 && questionIds.get(questionId);
+        }
+
+        // 선택지가 존재하고 해당 질문에 속하는지 확인 (배열의 빈 칸은 0이므로 질문 ID 0은 항상 false)
+        public boolean isOptionOf(Integer optionId, Integer questionId) {
+            return optionId != null && questionId != null && optionId > 0 && questionId > 0
+                    && optionId < questionIdByOptionId.length && questionIdByOptionId[optionId] == questionId;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RELOAD_CHANNEL));
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 아직 읽지 못했으면 지금 읽습니다.
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * DB에서 질문/선택지를 다시 읽어 스냅샷을 교체합니다.
+     */
+    public synchronized Snapshot reload() {
+        List<SurveyQuestion> questions = surveyQuestionRepository.findAllByOrderByOrderNumberAsc();
+        List<SurveyQuestionWithOptionsResponseDto> responses = new ArrayList<>();
+        BitSet questionIds = new BitSet();
+        int maxOptionId = 0;
+        for (SurveyQuestion question : questions) {
+            if (question.getOptions() != null) {
+                for (SurveyOption option : question.getOptions()) {
+                    maxOptionId = Math.max(maxOptionId, option.getId());
+                }
+            }
+        }
+        int[] questionIdByOptionId = new int[maxOptionId + 1];
+
+        for (SurveyQuestion question : questions) {
+            questionIds.set(question.getId());
+            List<SurveyOptionResponseDto> options = new ArrayList<>();
+            if (question.getOptions() != null) {
+                for (SurveyOption option : question.getOptions()) {
+                    questionIdByOptionId[option.getId()] = question.getId();
+                    options.add(SurveyOptionResponseDto.builder()
+                            .optionId(option.getId())
+                            .optionContent(option.getContent())
+                            .build());
+                }
+            }
+            responses.add(SurveyQuestionWithOptionsResponseDto.builder()
+                    .questionId(question.getId())
+                    .questionContent(question.getContent())
+                    .options(List.copyOf(options))
+                    .build());
+        }
+
+        Snapshot loaded = new Snapshot(versionOf(responses), List.copyOf(responses), questionIds, questionIdByOptionId);
+        snapshot = loaded;
+        log.info("설문 카탈로그 로드 완료 - version: {}, questions: {}", loaded.version(), responses.size());
+        return loaded;
+    }
+
+    /**
+     * 이 서버를 포함한 모든 서버에 카탈로그를 다시 읽도록 알립니다.
+     */
+    public Snapshot reloadAll() {
+        Snapshot loaded = reload();
+        try {
+            stringRedisTemplate.convertAndSend(RELOAD_CHANNEL, loaded.version());
+        } catch (Exception e) {
+            log.warn("설문 카탈로그 갱신 알림 실패 - error: {}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${survey.catalog.refresh-interval-ms:3600000}", initialDelayString = "${survey.catalog.refresh-interval-ms:3600000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("설문 카탈로그 로드 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 발행한 갱신 알림 수신 (이미 같은 버전이면 건너뜀)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        refresh();
+    }
+
+    private String versionOf(List<SurveyQuestionWithOptionsResponseDto> questions) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(questions);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.yourmode.yourmodebackend.domain.survey.service;
+
+import com.yourmode.yourmodebackend.domain.survey.client.FastApiDiagnosisClient;
+import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
+import com.yourmode.yourmodebackend.domain.survey.dto.response.SurveyResultFastApiResponseDto;
+import com.yourmode.yourmodebackend.domain.survey.redis.SurveyAnalysisResultCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 체형 진단 결과 로더
+ * Redis 결과 캐시를 먼저 확인하고, 없으면 FastAPI를 호출합니다.
+ * 같은 서버에서 같은 요청이 동시에 들어오면 FastAPI 호출 한 번의 결과를 함께 기다립니다. (single-flight)
+ * 서버 간에는 Redis 키별 잠금으로 한 서버만 호출하고, 나머지 서버는 결과 캐시에 저장되기를 기다립니다.
+ * 잠금을 잡은 서버의 호출이 실패하거나 대기 시간이 지나면 직접 호출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyDiagnosisLoader {
+
+    private final FastApiDiagnosisClient fastApiDiagnosisClient;
+    private final SurveyAnalysisResultCache surveyAnalysisResultCache;
+
+    @Value("${survey.analysis-cache.lock-wait-ms:60000}")
+    private long lockWaitMs;
+
+    @Value("${survey.analysis-cache.lock-poll-ms:200}")
+    private long lockPollMs;
+
+    // 진행 중인 FastAPI 호출 (캐시 키 → 결과)
+    private final Map<String, CompletableFuture<SurveyResultFastApiResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 요청에 대한 진단 결과를 반환합니다. 성공한 결과만 캐시합니다.
+     *
+     * @throws com.yourmode.yourmodebackend.global.common.exception.RestApiException FastAPI 호출 실패 시 (FastApiDiagnosisClient 참고)
+     */
+    public SurveyResultFastApiResponseDto load(SurveyTextAnswersRequestDto dto) {
+        String key = surveyAnalysisResultCache.keyOf(dto);
+        Optional<SurveyResultFastApiResponseDto> cached = surveyAnalysisResultCache.find(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<SurveyResultFastApiResponseDto> call = new CompletableFuture<>();
+        CompletableFuture<SurveyResultFastApiResponseDto> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            log.debug("진행 중인 설문 분석 결과 대기 - key: {}", key);
+            return join(existing);
+        }
+
+        String owner = UUID.randomUUID().toString();
+        boolean locked = false;
+        try {
+            locked = surveyAnalysisResultCache.tryLock(key, owner);
+            if (!locked) {
+                Optional<SurveyResultFastApiResponseDto> shared = awaitOtherNode(key);
+                if (shared.isPresent()) {
+                    call.complete(shared.get());
+                    return shared.get();
+                }
+            }
+            SurveyResultFastApiResponseDto result = fastApiDiagnosisClient.diagnose(dto);
+            surveyAnalysisResultCache.save(key, result);
+            call.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+            if (locked) {
+                surveyAnalysisResultCache.unlock(key, owner);
+            }
+        }
+    }
+
+    /**
+     * 다른 서버가 같은 요청을 호출 중이면 결과가 캐시에 저장될 때까지 기다립니다.
+     * 잠금이 풀렸는데 결과가 없으면(호출 실패) 또는 대기 시간이 지나면 empty
+     */
+    private Optional<SurveyResultFastApiResponseDto> awaitOtherNode(String key) {
+        log.debug("다른 서버의 설문 분석 결과 대기 - key: {}", key);
+        long deadline = System.nanoTime() + lockWaitMs * 1_000_000;
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(lockPollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<SurveyResultFastApiResponseDto> cached = surveyAnalysisResultCache.find(key);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            if (!surveyAnalysisResultCache.isLocked(key)) {
+                // 확인 사이에 저장 후 잠금이 해제됐을 수 있으므로 한 번 더 조회
+                return surveyAnalysisResultCache.find(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 대기하던 호출이 실패하면 같은 예외를 그대로 던짐
+    private SurveyResultFastApiResponseDto join(CompletableFuture<SurveyResultFastApiResponseDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,12 +3,21 @@ package com.yourmode.yourmodebackend.domain.survey.service;
 import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyAnswersSubmitRequestDto;
 import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
 import com.yourmode.yourmodebackend.domain.survey.dto.response.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
+import java.util.Map;
 
 public interface SurveyService {
     List<SurveyQuestionWithOptionsResponseDto> getAllQuestionsWithOptions();
+    String getSurveyCatalogVersion();
+    String reloadSurveyCatalog();
+    @Deprecated
     List<SurveyHistoryWithAnswersResponseDto> getSurveyHistoriesWithAnswers(Integer userId);
+    SurveyHistoryPageResponseDto getSurveyHistorySummaries(Integer userId, Pageable pageable);
+    Map<Integer, List<SurveyAnswerResponseDto>> getSurveyAnswersByHistories(List<Integer> historyIds, Integer userId);
     List<SurveyAnswerResponseDto> getSurveyAnswersByHistory(Integer historyId, Integer userId);
+    SurveyAnswerPageResponseDto getSurveyAnswersByHistory(Integer historyId, Integer userId, Pageable pageable);
     SurveyResultFastApiResponseDto analyzeSurveyAnswersWithFast(SurveyTextAnswersRequestDto dto, Integer userId);
     SurveyResultFastApiResponseDto analyzeSurveyHistoryWithFast(Integer historyId, Integer userId);
     SurveySaveResponseDto saveSurveyAnswersBulk(SurveyAnswersSubmitRequestDto dto, Integer userId);
@@ -18,4 +27,10 @@ public interface SurveyService {
     List<SurveyResultSummaryDto> getSurveyResultsByUserId(Integer userId);
     SurveyResultResponseDto getSurveyResultDetail(Integer resultId, Integer userId);
 
+    // 비동기 분석 작업 메서드들
+    SurveyAnalysisJobResponseDto submitAnalysisJob(SurveyTextAnswersRequestDto dto, Integer userId);
+    SurveyAnalysisJobResponseDto submitHistoryAnalysisJob(Integer historyId, Integer userId);
+    SurveyAnalysisJobResponseDto getAnalysisJob(String jobId, Integer userId);
+    SseEmitter subscribeAnalysisJob(String jobId, Integer userId);
+
 } 
\ No newline at end of file
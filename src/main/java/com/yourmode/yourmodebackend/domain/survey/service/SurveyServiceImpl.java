@@ -10,42 +10,53 @@ import com.yourmode.yourmodebackend.domain.user.entity.BodyType;
 import com.yourmode.yourmodebackend.domain.user.repository.UserRepository;
 import com.yourmode.yourmodebackend.domain.user.repository.BodyTypeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.stream.Collectors;
 import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
 import com.yourmode.yourmodebackend.domain.survey.status.SurveyErrorStatus;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SurveyServiceImpl implements SurveyService {
+    // 여러 이력 답변 일괄 조회 시 최대 이력 수
+    private static final int MAX_BATCH_HISTORY_IDS = 50;
+
     private final SurveyHistoryRepository surveyHistoryRepository;
-    private final SurveyQuestionRepository surveyQuestionRepository;
-    private final SurveyOptionRepository surveyOptionRepository;
     private final SurveyAnswerRepository surveyAnswerRepository;
     private final SurveyResultRepository surveyResultRepository;
     private final UserRepository userRepository;
     private final BodyTypeRepository bodyTypeRepository;
-    private static final String FAST_API_URL = "https://fast.yourmode.co.kr/assistant/diagnosis"; // 실제 주소로 교체
+    private final SurveyDiagnosisLoader surveyDiagnosisLoader;
+    private final SurveyCatalog surveyCatalog;
+    private final SurveyAnswerBulkRepository surveyAnswerBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SurveyAnalysisJobRunner surveyAnalysisJobRunner;
 
     /**
      * 텍스트 답변과 신체정보를 받아 FastAPI 서버로 직접 전송하여 분석 결과를 반환하고 DB에 저장합니다.
+     * FastAPI 호출은 트랜잭션 밖에서 수행하고, 결과 저장만 짧은 트랜잭션으로 처리합니다.
      * 1) 요청 DTO 유효성 검사 (null 체크, answers 리스트 비어있음 체크)
-     * 2) HTTP 헤더 설정 (Content-Type: application/json)
-     * 3) RestTemplate을 사용하여 FastAPI 서버로 POST 요청 전송
-     * 4) 응답 데이터를 SurveyResultFastApiResponseDto로 매핑
-     * 5) 분석 결과를 DB에 저장
-     * 6) 분석 결과 반환
+     * 2) 캐시된 결과가 없으면 FastAPI 서버에 진단 요청 (DB 커넥션 미점유, 동일 요청은 1회만 호출)
+     * 3) 응답의 누락 필드를 기본 문구로 채움
+     * 4) 분석 결과를 DB에 저장
+     * 5) 분석 결과 반환
      *
      * @param dto FastAPI 분석용 텍스트 답변+신체정보 요청 DTO
      * @param userId 사용자 ID (결과 저장용)
@@ -55,64 +66,20 @@ public class SurveyServiceImpl implements SurveyService {
      *         - answers 리스트가 null이거나 비어있는 경우 EMPTY_ANSWERS_LIST 상태로 예외 발생
      *         - userId가 null인 경우 INVALID_USER_ID 상태로 예외 발생
      *         - FastAPI 서버 응답이 null인 경우 FAST_API_INVALID_RESPONSE 상태로 예외 발생
+     *         - FastAPI 서버 연결 실패/시간 초과 시 FAST_API_UNAVAILABLE 상태로 예외 발생
      *         - FastAPI 호출 실패 시 FAST_API_FAILED 상태로 예외 발생
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SurveyResultFastApiResponseDto analyzeSurveyAnswersWithFast(SurveyTextAnswersRequestDto dto, Integer userId) {
-        if (dto == null) {
-            throw new RestApiException(SurveyErrorStatus.INVALID_FAST_REQUEST);
-        }
-        
-        if (dto.getAnswers() == null || dto.getAnswers().isEmpty()) {
-            throw new RestApiException(SurveyErrorStatus.EMPTY_ANSWERS_LIST);
-        }
-        
-        if (userId == null) {
-            throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
-        }
-        
-        // RestTemplate 설정
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(0);     // 연결 타임아웃: 제한 없음
-        factory.setReadTimeout(0);        // 읽기 타임아웃: 제한 없음
+        validateFastRequest(dto, userId);
         
-        RestTemplate restTemplate = new RestTemplate(factory);
-        
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        HttpEntity<SurveyTextAnswersRequestDto> requestEntity = new HttpEntity<>(dto, headers);
-        
-        try {
-            ResponseEntity<SurveyResultFastApiResponseDto> responseEntity = restTemplate.exchange(
-                FAST_API_URL,
-                HttpMethod.POST,
-                requestEntity,
-                SurveyResultFastApiResponseDto.class
-            );
-            
-            SurveyResultFastApiResponseDto response = responseEntity.getBody();
-            
-            if (response == null) {
-                throw new RestApiException(SurveyErrorStatus.FAST_API_INVALID_RESPONSE);
-            }
+        // 원격 호출 중에는 DB 커넥션을 잡지 않음 (같은 요청은 캐시된 결과 재사용)
+        SurveyResultFastApiResponseDto result = withDefaults(surveyDiagnosisLoader.load(dto));
 
-            // 응답 데이터 검증 및 빌더 패턴으로 재구성
-            SurveyResultFastApiResponseDto result = SurveyResultFastApiResponseDto.builder()
-                    .bodyType(response.getBodyType() != null ? response.getBodyType() : "미분류")
-                    .typeDescription(response.getTypeDescription() != null ? response.getTypeDescription() : "체형 분석 결과가 없습니다.")
-                    .detailedFeatures(response.getDetailedFeatures() != null ? response.getDetailedFeatures() : "상세 특징 정보가 없습니다.")
-                    .attractionPoints(response.getAttractionPoints() != null ? response.getAttractionPoints() : "매력 포인트 정보가 없습니다.")
-                    .recommendedStyles(response.getRecommendedStyles() != null ? response.getRecommendedStyles() : "추천 스타일 정보가 없습니다.")
-                    .avoidStyles(response.getAvoidStyles() != null ? response.getAvoidStyles() : "피해야 할 스타일 정보가 없습니다.")
-                    .stylingFixes(response.getStylingFixes() != null ? response.getStylingFixes() : "스타일링 보완점 정보가 없습니다.")
-                    .stylingTips(response.getStylingTips() != null ? response.getStylingTips() : "스타일링 팁 정보가 없습니다.")
-                    .build();
-            
-            // 결과를 DB에 저장
-            try {
+        // 결과를 DB에 저장
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
                 User user = userRepository.findById(userId)
                         .orElseThrow(() -> new RestApiException(SurveyErrorStatus.INVALID_USER_ID));
                 
@@ -121,19 +88,42 @@ public class SurveyServiceImpl implements SurveyService {
                         .build();
                 SurveyHistory savedHistory = surveyHistoryRepository.save(history);
                 saveSurveyResult(result, savedHistory.getId());
-            } catch (Exception e) {
-                System.err.println("결과 저장 실패: " + e.getMessage());
-                // 저장 실패해도 결과는 반환
-            }
-            
-            return result;
-                    
+            });
         } catch (Exception e) {
-            throw new RestApiException(SurveyErrorStatus.FAST_API_FAILED);
+            // 저장 실패해도 결과는 반환
+            log.warn("설문 분석 결과 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
         }
+        
+        return result;
     }
 
+    private void validateFastRequest(SurveyTextAnswersRequestDto dto, Integer userId) {
+        if (dto == null) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_FAST_REQUEST);
+        }
+        
+        if (dto.getAnswers() == null || dto.getAnswers().isEmpty()) {
+            throw new RestApiException(SurveyErrorStatus.EMPTY_ANSWERS_LIST);
+        }
+        
+        if (userId == null) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+        }
+    }
 
+    // 응답 데이터 검증 및 빌더 패턴으로 재구성
+    private SurveyResultFastApiResponseDto withDefaults(SurveyResultFastApiResponseDto response) {
+        return SurveyResultFastApiResponseDto.builder()
+                .bodyType(response.getBodyType() != null ? response.getBodyType() : "미분류")
+                .typeDescription(response.getTypeDescription() != null ? response.getTypeDescription() : "체형 분석 결과가 없습니다.")
+                .detailedFeatures(response.getDetailedFeatures() != null ? response.getDetailedFeatures() : "상세 특징 정보가 없습니다.")
+                .attractionPoints(response.getAttractionPoints() != null ? response.getAttractionPoints() : "매력 포인트 정보가 없습니다.")
+                .recommendedStyles(response.getRecommendedStyles() != null ? response.getRecommendedStyles() : "추천 스타일 정보가 없습니다.")
+                .avoidStyles(response.getAvoidStyles() != null ? response.getAvoidStyles() : "피해야 할 스타일 정보가 없습니다.")
+                .stylingFixes(response.getStylingFixes() != null ? response.getStylingFixes() : "스타일링 보완점 정보가 없습니다.")
+                .stylingTips(response.getStylingTips() != null ? response.getStylingTips() : "스타일링 팁 정보가 없습니다.")
+                .build();
+    }
 
     /**
      * 설문 이력 ID를 받아 해당 이력의 답변을 추출하여 FastAPI로 분석 요청을 보내고 결과를 반환합니다.
@@ -159,7 +149,7 @@ public class SurveyServiceImpl implements SurveyService {
      *         - FastAPI 호출 실패 시 FAST_API_FAILED 상태로 예외 발생
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SurveyResultFastApiResponseDto analyzeSurveyHistoryWithFast(Integer historyId, Integer userId) {
         if (historyId == null) {
             throw new RestApiException(SurveyErrorStatus.INVALID_HISTORY_ID);
@@ -169,6 +159,16 @@ public class SurveyServiceImpl implements SurveyService {
             throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
         }
         
+        // 1~6. 요청 데이터 구성은 트랜잭션 안에서 (지연 로딩), FastAPI 호출은 트랜잭션 밖에서
+        SurveyTextAnswersRequestDto fastRequest = transactionTemplate.execute(status -> buildFastRequest(historyId, userId));
+        
+        // 7. FastAPI 호출 (이미 저장 기능 포함)
+        SurveyResultFastApiResponseDto result = analyzeSurveyAnswersWithFast(fastRequest, userId);
+
+        return result;
+    }
+
+    private SurveyTextAnswersRequestDto buildFastRequest(Integer historyId, Integer userId) {
         // 1. 설문 이력 조회
         SurveyHistory history = surveyHistoryRepository.findById(historyId)
                 .orElseThrow(() -> new RestApiException(SurveyErrorStatus.SURVEY_NOT_FOUND));
@@ -179,10 +179,7 @@ public class SurveyServiceImpl implements SurveyService {
         }
         
         // 3. 답변 목록 조회
-        List<SurveyAnswer> answers = surveyAnswerRepository.findAll().stream()
-                .filter(a -> a != null && a.getSurveyHistory() != null && 
-                           historyId.equals(a.getSurveyHistory().getId()))
-                .collect(Collectors.toList());
+        List<SurveyAnswer> answers = surveyAnswerRepository.findAllByHistoryIdWithQuestionAndOption(historyId);
         
         if (answers.isEmpty()) {
             throw new RestApiException(SurveyErrorStatus.ANSWER_NOT_FOUND);
@@ -190,7 +187,6 @@ public class SurveyServiceImpl implements SurveyService {
         
         // 4. 답변을 텍스트로 변환 (옵션 내용 추출)
         List<String> answerTexts = answers.stream()
-                .filter(a -> a.getSurveyOption() != null)
                 .map(a -> a.getSurveyOption().getContent())
                 .collect(Collectors.toList());
         
@@ -206,19 +202,12 @@ public class SurveyServiceImpl implements SurveyService {
         fastRequest.setGender(userProfile.getGender() != null ? userProfile.getGender().name() : "여성");
         fastRequest.setHeight(userProfile.getHeight() != null ? userProfile.getHeight().doubleValue() : 165.0);
         fastRequest.setWeight(userProfile.getWeight() != null ? userProfile.getWeight().doubleValue() : 55.0);
-        
-        // 7. FastAPI 호출 (이미 저장 기능 포함)
-        SurveyResultFastApiResponseDto result = analyzeSurveyAnswersWithFast(fastRequest, userId);
-
-        return result;
+        return fastRequest;
     }
 
     /**
-     * 모든 설문 질문과 각 질문의 옵션을 조회하여 반환합니다.
-     * 1) 설문 질문 목록을 orderNumber 순으로 조회
-     * 2) 각 질문의 옵션 목록 조회 및 null 필터링
-     * 3) SurveyQuestionWithOptionsResponseDto로 변환
-     * 4) 질문과 옵션 목록 반환
+     * 모든 설문 질문과 각 질문의 옵션을 반환합니다.
+     * 질문/옵션은 설문 카탈로그 스냅샷에서 미리 만들어 둔 응답을 그대로 사용하므로 DB를 조회하지 않습니다.
      *
      * @return 설문 질문과 옵션 목록이 포함된 응답 DTO 리스트
      * @throws RestApiException
@@ -228,33 +217,13 @@ public class SurveyServiceImpl implements SurveyService {
     @Override
     public List<SurveyQuestionWithOptionsResponseDto> getAllQuestionsWithOptions() {
         try {
-            List<SurveyQuestion> questions = surveyQuestionRepository.findAllByOrderByOrderNumberAsc();
+            List<SurveyQuestionWithOptionsResponseDto> questions = surveyCatalog.current().questions();
             
-            if (questions == null || questions.isEmpty()) {
+            if (questions.isEmpty()) {
                 throw new RestApiException(SurveyErrorStatus.QUESTION_NOT_FOUND);
             }
             
-            return questions.stream()
-                .filter(q -> q != null) // null 질문 필터링
-                .map(q -> {
-                    // 질문의 옵션 목록이 null이거나 비어있는 경우 처리
-                    List<SurveyOptionResponseDto> options = (q.getOptions() != null) 
-                        ? q.getOptions().stream()
-                            .filter(o -> o != null) // null 옵션 필터링
-                            .map(o -> SurveyOptionResponseDto.builder()
-                                .optionId(o.getId())
-                                .optionContent(o.getContent())
-                                .build())
-                            .collect(Collectors.toList())
-                        : new ArrayList<>();
-                    
-                    return SurveyQuestionWithOptionsResponseDto.builder()
-                        .questionId(q.getId())
-                        .questionContent(q.getContent())
-                        .options(options)
-                        .build();
-                })
-                .collect(Collectors.toList());
+            return questions;
         } catch (RestApiException e) {
             // 이미 RestApiException인 경우 그대로 던지기
             throw e;
@@ -264,14 +233,33 @@ public class SurveyServiceImpl implements SurveyService {
         }
     }
 
+    /**
+     * 현재 설문 카탈로그 버전을 반환합니다. (질문 조회 응답의 ETag)
+     */
+    @Override
+    public String getSurveyCatalogVersion() {
+        return surveyCatalog.current().version();
+    }
+
+    /**
+     * 설문 질문/선택지를 DB에서 다시 읽고, 모든 서버에 갱신을 알립니다.
+     * 질문/선택지를 DB에서 직접 수정한 뒤 호출합니다.
+     *
+     * @return 갱신된 카탈로그 버전
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String reloadSurveyCatalog() {
+        return surveyCatalog.reloadAll().version();
+    }
+
     /**
      * 로그인 유저가 모든 설문에 대해 선택한 답변을 한 번에 저장합니다.
      * 1) userId 유효성 검사 (null 체크)
-     * 2) 사용자 존재 여부 확인
-     * 3) SurveyHistory 생성 및 저장
-     * 4) 각 답변에 대해 SurveyQuestion과 SurveyOption 조회
-     * 5) SurveyAnswer 엔티티 생성 및 일괄 저장
-     * 6) 저장 결과 반환 (historyId, answerCount)
+     * 2) 각 답변의 질문/선택지를 설문 카탈로그로 검증 (선택지가 해당 질문에 속하는지 포함)
+     * 3) SurveyHistory 행 저장 (사용자가 없으면 FK 위반으로 INVALID_USER_ID)
+     * 4) SurveyAnswer 행을 다중 행 INSERT 한 문장으로 저장
+     * 5) 저장 결과 반환 (historyId, answerCount)
      *
      * @param dto 설문 답변 일괄 저장 요청 DTO
      * @param userId 현재 로그인한 사용자 ID
@@ -289,37 +277,37 @@ public class SurveyServiceImpl implements SurveyService {
         if (userId == null) {
             throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
         }
-            
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RestApiException(SurveyErrorStatus.INVALID_USER_ID));
-            
-            SurveyHistory history = SurveyHistory.builder()
-                    .user(user)
-                    .build();
-            SurveyHistory savedHistory = surveyHistoryRepository.save(history);
-            
-            List<SurveyAnswer> answers = dto.getAnswers().stream().map(a -> {
-                SurveyQuestion question = surveyQuestionRepository.findById(a.getQuestionId())
-                        .orElseThrow(() -> new RestApiException(SurveyErrorStatus.INVALID_QUESTION_ID));
-                SurveyOption option = surveyOptionRepository.findById(a.getOptionId())
-                        .orElseThrow(() -> new RestApiException(SurveyErrorStatus.INVALID_OPTION_ID));
-                return SurveyAnswer.builder()
-                        .surveyHistory(savedHistory)
-                        .surveyQuestion(question)
-                        .surveyOption(option)
-                        .build();
-            }).collect(Collectors.toList());
-            
-            surveyAnswerRepository.saveAll(answers);
-            
-            return SurveySaveResponseDto.builder()
-                    .historyId(savedHistory.getId())
-                    .answerCount(answers.size())
-                    .build();
+        
+        // 질문/선택지 검증은 카탈로그 스냅샷으로 먼저 끝내, 잘못된 요청이면 아무것도 쓰지 않음
+        SurveyCatalog.Snapshot catalog = surveyCatalog.current();
+        for (SurveyAnswersSubmitRequestDto.Answer a : dto.getAnswers()) {
+            if (!catalog.hasQuestion(a.getQuestionId())) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_QUESTION_ID);
+            }
+            if (!catalog.isOptionOf(a.getOptionId(), a.getQuestionId())) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_OPTION_ID);
+            }
+        }
+        
+        // 이력 INSERT 1개 + 답변 다중 행 INSERT 1개 (사용자가 없으면 FK 위반)
+        Integer historyId;
+        try {
+            historyId = surveyAnswerBulkRepository.insertHistory(userId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+        }
+        surveyAnswerBulkRepository.insertAnswers(historyId, dto.getAnswers());
+        
+        return SurveySaveResponseDto.builder()
+                .historyId(historyId)
+                .answerCount(dto.getAnswers().size())
+                .build();
     }
 
     /**
      * 로그인 유저의 모든 설문 이력과 각 이력의 답변을 조회하여 반환합니다.
+     * 이력 수에 제한 없이 모든 답변을 한 번에 적재하므로, getSurveyHistorySummaries와
+     * getSurveyAnswersByHistories를 대신 사용합니다.
      * 1) userId 유효성 검사 (null 체크)
      * 2) 사용자의 설문 이력 목록을 생성일 역순으로 조회
      * 3) 각 이력의 답변 목록 조회 및 null 필터링
@@ -334,6 +322,7 @@ public class SurveyServiceImpl implements SurveyService {
      *         - DB 조회 중 오류 발생 시 DB_HISTORY_QUERY_FAILED 상태로 예외 발생
      */
     @Override
+    @Deprecated
     public List<SurveyHistoryWithAnswersResponseDto> getSurveyHistoriesWithAnswers(Integer userId) {
         try {
             if (userId == null) {
@@ -375,11 +364,94 @@ public class SurveyServiceImpl implements SurveyService {
         }
     }
 
+    /**
+     * 로그인 유저의 설문 이력 요약을 최신순으로 페이지 조회합니다.
+     * 이력 ID/응답 일시/답변 수만 DTO로 바로 조회하며, 답변은 필요할 때 이력별 또는 여러 이력 단위로 따로 조회합니다.
+     *
+     * @param userId 현재 로그인한 사용자 ID
+     * @param pageable 페이지 정보 (정렬은 최신순으로 고정)
+     * @return 설문 이력 요약 페이지 응답 DTO (이력이 없으면 빈 목록)
+     * @throws RestApiException
+     *         - userId가 null인 경우 INVALID_USER_ID
+     *         - DB 조회 중 오류 발생 시 DB_HISTORY_QUERY_FAILED
+     */
+    @Override
+    public SurveyHistoryPageResponseDto getSurveyHistorySummaries(Integer userId, Pageable pageable) {
+        try {
+            if (userId == null) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+            }
+            
+            Page<SurveyHistorySummaryDto> historyPage = surveyHistoryRepository.findSummariesByUserId(userId, pageable);
+            
+            return SurveyHistoryPageResponseDto.builder()
+                    .histories(historyPage.getContent())
+                    .totalCount(historyPage.getTotalElements())
+                    .currentPage(historyPage.getNumber())
+                    .totalPages(historyPage.getTotalPages())
+                    .hasNext(historyPage.hasNext())
+                    .build();
+        } catch (RestApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RestApiException(SurveyErrorStatus.DB_HISTORY_QUERY_FAILED);
+        }
+    }
+
+    /**
+     * 여러 설문 이력의 답변을 한 번에 조회합니다. (이력 요약 페이지의 답변을 한 번의 쿼리로 채울 때 사용)
+     * 1) 이력 ID 목록 검사 (비어있거나 최대 개수 초과 시 거절, 중복 제거)
+     * 2) 모든 이력이 사용자 본인의 것인지 확인
+     * 3) 답변을 질문/선택지와 함께 한 번에 조회하여 이력별로 묶음
+     *
+     * @param historyIds 조회할 설문 이력 ID 목록 (최대 MAX_BATCH_HISTORY_IDS개)
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 요청 순서대로 이력 ID별 답변 목록 (답변이 없는 이력은 빈 목록)
+     * @throws RestApiException
+     *         - 이력 ID 목록이 비어있거나 너무 많은 경우 INVALID_SURVEY_PARAMETER
+     *         - userId가 null인 경우 INVALID_USER_ID
+     *         - 없거나 본인의 것이 아닌 이력이 포함된 경우 FORBIDDEN_SURVEY_ACCESS
+     *         - DB 조회 중 오류 발생 시 DB_ANSWER_QUERY_FAILED
+     */
+    @Override
+    public Map<Integer, List<SurveyAnswerResponseDto>> getSurveyAnswersByHistories(List<Integer> historyIds, Integer userId) {
+        try {
+            if (historyIds == null || historyIds.isEmpty() || historyIds.size() > MAX_BATCH_HISTORY_IDS) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_SURVEY_PARAMETER);
+            }
+            
+            if (userId == null) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+            }
+            
+            Set<Integer> requestedIds = new LinkedHashSet<>(historyIds);
+            if (requestedIds.contains(null)) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_SURVEY_PARAMETER);
+            }
+            
+            List<Integer> ownedIds = surveyHistoryRepository.findIdsByIdInAndUserId(requestedIds, userId);
+            if (ownedIds.size() != requestedIds.size()) {
+                throw new RestApiException(SurveyErrorStatus.FORBIDDEN_SURVEY_ACCESS);
+            }
+            
+            Map<Integer, List<SurveyAnswerResponseDto>> answersByHistory = new LinkedHashMap<>();
+            requestedIds.forEach(id -> answersByHistory.put(id, new ArrayList<>()));
+            for (SurveyAnswer answer : surveyAnswerRepository.findAllByHistoryIdInWithQuestionAndOption(requestedIds)) {
+                answersByHistory.get(answer.getSurveyHistory().getId()).add(toAnswerResponse(answer));
+            }
+            return answersByHistory;
+        } catch (RestApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RestApiException(SurveyErrorStatus.DB_ANSWER_QUERY_FAILED);
+        }
+    }
+
     /**
      * 설문 이력 ID로 해당 이력의 모든 답변을 조회하여 반환합니다.
      * 1) historyId 유효성 검사 (null 체크)
-     * 2) 해당 이력의 답변 목록 조회
-     * 3) null 필터링 및 SurveyAnswerResponseDto로 변환
+     * 2) 해당 이력의 답변 목록을 질문/선택지와 함께 조회 (이력 ID 인덱스 사용)
+     * 3) SurveyAnswerResponseDto로 변환
      * 4) 답변 목록 반환
      *
      * @param historyId 조회할 설문 이력 ID
@@ -400,31 +472,16 @@ public class SurveyServiceImpl implements SurveyService {
                 throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
             }
             
-            // 설문 이력 조회 및 사용자 본인 확인
-            SurveyHistory history = surveyHistoryRepository.findById(historyId)
-                    .orElseThrow(() -> new RestApiException(SurveyErrorStatus.SURVEY_NOT_FOUND));
+            checkHistoryOwner(historyId, userId);
             
-            if (!history.getUser().getId().equals(userId)) {
-                throw new RestApiException(SurveyErrorStatus.FORBIDDEN_SURVEY_ACCESS);
-            }
-            
-            List<SurveyAnswer> answers = surveyAnswerRepository.findAll().stream()
-                    .filter(a -> a != null && a.getSurveyHistory() != null && 
-                               historyId.equals(a.getSurveyHistory().getId()))
-                    .collect(Collectors.toList());
+            List<SurveyAnswer> answers = surveyAnswerRepository.findAllByHistoryIdWithQuestionAndOption(historyId);
             
             if (answers.isEmpty()) {
                 throw new RestApiException(SurveyErrorStatus.ANSWER_NOT_FOUND);
             }
             
             return answers.stream()
-                    .filter(a -> a.getSurveyQuestion() != null && a.getSurveyOption() != null)
-                    .map(a -> SurveyAnswerResponseDto.builder()
-                            .questionId(a.getSurveyQuestion().getId())
-                            .questionContent(a.getSurveyQuestion().getContent())
-                            .optionId(a.getSurveyOption().getId())
-                            .optionContent(a.getSurveyOption().getContent())
-                            .build())
+                    .map(this::toAnswerResponse)
                     .collect(Collectors.toList());
         } catch (RestApiException e) {
             throw e;
@@ -432,6 +489,68 @@ public class SurveyServiceImpl implements SurveyService {
             throw new RestApiException(SurveyErrorStatus.DB_ANSWER_QUERY_FAILED);
         }
     }
+
+    /**
+     * 설문 이력의 답변을 페이지 단위로 조회합니다.
+     * 질문/선택지를 함께 조인해 한 번의 쿼리(+ count 쿼리)로 가져옵니다.
+     *
+     * @param historyId 조회할 설문 이력 ID
+     * @param pageable 페이지 정보 (정렬은 저장 순서로 고정)
+     * @return 답변 페이지 응답 DTO
+     * @throws RestApiException
+     *         - historyId/userId가 null인 경우 INVALID_HISTORY_ID / INVALID_USER_ID
+     *         - 설문 이력이 없는 경우 SURVEY_NOT_FOUND, 본인의 이력이 아닌 경우 FORBIDDEN_SURVEY_ACCESS
+     *         - DB 조회 중 오류 발생 시 DB_ANSWER_QUERY_FAILED
+     */
+    @Override
+    public SurveyAnswerPageResponseDto getSurveyAnswersByHistory(Integer historyId, Integer userId, Pageable pageable) {
+        try {
+            if (historyId == null) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_HISTORY_ID);
+            }
+            
+            if (userId == null) {
+                throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+            }
+            
+            checkHistoryOwner(historyId, userId);
+            
+            Page<SurveyAnswer> answerPage = surveyAnswerRepository.findByHistoryIdWithQuestionAndOption(historyId, pageable);
+            
+            return SurveyAnswerPageResponseDto.builder()
+                    .answers(answerPage.getContent().stream()
+                            .map(this::toAnswerResponse)
+                            .collect(Collectors.toList()))
+                    .totalCount(answerPage.getTotalElements())
+                    .currentPage(answerPage.getNumber())
+                    .totalPages(answerPage.getTotalPages())
+                    .hasNext(answerPage.hasNext())
+                    .build();
+        } catch (RestApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RestApiException(SurveyErrorStatus.DB_ANSWER_QUERY_FAILED);
+        }
+    }
+
+    // 설문 이력 존재 및 사용자 본인 확인
+    private void checkHistoryOwner(Integer historyId, Integer userId) {
+        SurveyHistory history = surveyHistoryRepository.findById(historyId)
+                .orElseThrow(() -> new RestApiException(SurveyErrorStatus.SURVEY_NOT_FOUND));
+        
+        if (!history.getUser().getId().equals(userId)) {
+            throw new RestApiException(SurveyErrorStatus.FORBIDDEN_SURVEY_ACCESS);
+        }
+    }
+
+    private SurveyAnswerResponseDto toAnswerResponse(SurveyAnswer answer) {
+        return SurveyAnswerResponseDto.builder()
+                .questionId(answer.getSurveyQuestion().getId())
+                .questionContent(answer.getSurveyQuestion().getContent())
+                .optionId(answer.getSurveyOption().getId())
+                .optionContent(answer.getSurveyOption().getContent())
+                .build();
+    }
     
     /**
      * FastAPI 분석 결과를 DB에 저장합니다.
@@ -618,4 +737,78 @@ public class SurveyServiceImpl implements SurveyService {
             throw new RestApiException(SurveyErrorStatus.DB_RESULT_QUERY_FAILED);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 텍스트 답변 분석을 비동기 작업으로 등록하고 작업 ID를 바로 반환합니다.
+     * 분석과 결과 저장은 analyzeSurveyAnswersWithFast와 같으며, 작업 스레드 풀에서 실행됩니다.
+     *
+     * @param dto FastAPI 분석용 텍스트 답변+신체정보 요청 DTO
+     * @param userId 사용자 ID
+     * @return 등록된 작업 상태 (PENDING)
+     * @throws RestApiException
+     *         - 요청 검증 실패 시 analyzeSurveyAnswersWithFast와 같은 상태로 예외 발생
+     *         - 작업 대기열이 가득 찬 경우 ANALYSIS_REQUEST_LIMIT_EXCEEDED 상태로 예외 발생
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SurveyAnalysisJobResponseDto submitAnalysisJob(SurveyTextAnswersRequestDto dto, Integer userId) {
+        validateFastRequest(dto, userId);
+        return surveyAnalysisJobRunner.submit(userId, () -> analyzeSurveyAnswersWithFast(dto, userId));
+    }
+
+    /**
+     * 설문 이력 분석을 비동기 작업으로 등록하고 작업 ID를 바로 반환합니다.
+     * 이력 조회와 본인 확인은 등록 시점에 수행하므로, 잘못된 요청은 작업을 만들지 않고 바로 실패합니다.
+     *
+     * @param historyId 분석할 설문 이력 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 등록된 작업 상태 (PENDING)
+     * @throws RestApiException
+     *         - 요청 검증 실패 시 analyzeSurveyHistoryWithFast와 같은 상태로 예외 발생
+     *         - 작업 대기열이 가득 찬 경우 ANALYSIS_REQUEST_LIMIT_EXCEEDED 상태로 예외 발생
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SurveyAnalysisJobResponseDto submitHistoryAnalysisJob(Integer historyId, Integer userId) {
+        if (historyId == null) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_HISTORY_ID);
+        }
+        
+        if (userId == null) {
+            throw new RestApiException(SurveyErrorStatus.INVALID_USER_ID);
+        }
+        
+        SurveyTextAnswersRequestDto fastRequest = transactionTemplate.execute(status -> buildFastRequest(historyId, userId));
+        return surveyAnalysisJobRunner.submit(userId, () -> analyzeSurveyAnswersWithFast(fastRequest, userId));
+    }
+
+    /**
+     * 분석 작업 상태를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 작업 상태 (완료된 경우 분석 결과 포함)
+     * @throws RestApiException
+     *         - 작업이 없거나 만료된 경우 ANALYSIS_JOB_NOT_FOUND 상태로 예외 발생
+     *         - 본인의 작업이 아닌 경우 FORBIDDEN_SURVEY_ACCESS 상태로 예외 발생
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SurveyAnalysisJobResponseDto getAnalysisJob(String jobId, Integer userId) {
+        return surveyAnalysisJobRunner.find(jobId, userId);
+    }
+
+    /**
+     * 분석 작업 완료를 SSE로 구독합니다.
+     *
+     * @param jobId 작업 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 작업 상태를 보내는 SSE emitter ("job" 이벤트)
+     * @throws RestApiException getAnalysisJob과 같은 상태로 예외 발생
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeAnalysisJob(String jobId, Integer userId) {
+        return surveyAnalysisJobRunner.subscribe(jobId, userId);
+    }
+}
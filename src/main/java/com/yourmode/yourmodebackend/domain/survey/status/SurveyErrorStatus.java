@@ -34,6 +34,7 @@ public enum SurveyErrorStatus implements BaseCodeInterface {
     ANSWER_NOT_FOUND(HttpStatus.NOT_FOUND, "SURVEY-404-003", "설문 답변을 찾을 수 없습니다."),
     RESULT_NOT_FOUND(HttpStatus.NOT_FOUND, "SURVEY-404-004", "설문 결과를 찾을 수 없습니다."),
     HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "SURVEY-404-005", "설문 이력을 찾을 수 없습니다."),
+    ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "SURVEY-404-006", "설문 분석 작업을 찾을 수 없거나 만료되었습니다."),
 
     // 409 Conflict - 리소스 충돌
     DUPLICATE_SURVEY_SUBMISSION(HttpStatus.CONFLICT, "SURVEY-409-001", "이미 제출된 설문입니다."),
@@ -58,7 +59,12 @@ public enum SurveyErrorStatus implements BaseCodeInterface {
     FAST_API_INVALID_RESPONSE(HttpStatus.BAD_GATEWAY, "SURVEY-502-002", "체형 분석 서비스에서 유효하지 않은 응답을 받았습니다."),
 
     // 503 Service Unavailable - 서비스 불가
-    FAST_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SURVEY-503-001", "체형 분석 서버와의 통신이 불가능합니다.");
+    FAST_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SURVEY-503-001", "체형 분석 서버와의 통신이 불가능합니다."),
+    FAST_API_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "SURVEY-503-002", "체형 분석 서버가 불안정하여 요청을 잠시 중단했습니다. 잠시 후 다시 시도해주세요."),
+    FAST_API_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SURVEY-503-003", "체형 분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 504 Gateway Timeout - 외부 서비스 응답 시간 초과
+    FAST_API_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "SURVEY-504-001", "체형 분석 서버의 응답 시간이 초과되었습니다.");
 
     private final HttpStatus httpStatus;
     private final boolean isSuccess = false;
@@ -0,0 +1,30 @@
+package com.yourmode.yourmodebackend.global.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점 훅
+ * 캐시/색인/비동기 작업처럼 DB에 커밋된 결과를 전제로 하는 처리를 커밋 뒤로 미룰 때 사용합니다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 실행하고(롤백 시 실행하지 않음), 트랜잭션 밖이면 바로 실행합니다.
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
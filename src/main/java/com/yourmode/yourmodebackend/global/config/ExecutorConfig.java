@@ -0,0 +1,82 @@
+package com.yourmode.yourmodebackend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * MVC 비동기 처리(StreamingResponseBody, SseEmitter 등)용 스레드 풀
+     * Executor 빈을 직접 등록하면 Spring Boot가 기본 applicationTaskExecutor를 만들지 않아
+     * 요청마다 스레드를 새로 만드는 SimpleAsyncTaskExecutor로 바뀌므로, 같은 이름으로 크기가 제한된 풀을 둡니다.
+     * 아래의 용도별 풀은 @Qualifier로 이름을 지정해 주입합니다.
+     */
+    @Bean(name = "applicationTaskExecutor")
+    public ThreadPoolTaskExecutor applicationTaskExecutor(
+            @Value("${web.async.threads:16}") int threads,
+            @Value("${web.async.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Presigned URL 서명 전용 스레드 풀
+     * 서명은 CPU 작업이므로 코어 수만큼만 두고, 큐가 가득 차면 요청 스레드가 직접 서명해 속도를 맞춥니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor presignExecutor(@Value("${s3.presign.queue-capacity:1000}") int queueCapacity) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("presign-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 이미지 파생본 생성 전용 스레드 풀
+     * 디코딩한 이미지가 메모리를 많이 차지하므로 동시 처리 수를 작게 제한하고, 큐가 가득 차면 작업을 거절합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${content.image-variant.threads:2}") int threads,
+            @Value("${content.image-variant.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 설문 분석 작업 전용 스레드 풀
+     * FastAPI 호출이 오래 걸리므로 요청 스레드 대신 이 풀에서 실행하며, 큐가 가득 차면 작업을 거절(429)합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor surveyAnalysisExecutor(
+            @Value("${survey.analysis-job.threads:8}") int threads,
+            @Value("${survey.analysis-job.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("survey-analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
@@ -31,4 +32,11 @@ public class RedisConfig {
 
         return redisTemplate; // 설정이 완료된 RedisTemplate 인스턴스를 반환
     }
+
+    @Bean // Redis Pub/Sub 메시지 수신용 컨테이너 (리스너는 각 컴포넌트에서 등록)
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
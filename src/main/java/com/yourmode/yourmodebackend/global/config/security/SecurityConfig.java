@@ -1,6 +1,7 @@
 package com.yourmode.yourmodebackend.global.config.security;
 
 import com.yourmode.yourmodebackend.global.config.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +51,8 @@ public class SecurityConfig {
                                 .preload(true))
                         .referrerPolicy(referrerPolicy -> referrerPolicy.policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN)))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE, 스트리밍)의 재디스패치와 에러 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/v3/api-docs/**",
@@ -62,6 +65,8 @@ public class SecurityConfig {
                                 "/api/contents/*", // 컨텐츠 상세 조회 - 공개 접근 가능
                                 "/api/contents/editor", // 에디터 컨텐츠 목록 조회 - 공개 접근 가능
                                 "/api/contents/custom", // 맞춤형 컨텐츠 목록 조회 - 공개 접근 가능
+                                "/api/contents/editor/cursor", // 에디터 컨텐츠 커서 조회 - 공개 접근 가능
+                                "/api/contents/custom/cursor", // 맞춤형 컨텐츠 커서 조회 - 공개 접근 가능
                                 "/actuator/**" // Actuator API - 공개 접근 가능
                         ).permitAll()
                         .requestMatchers("/api/contents/my/**").authenticated() // 내 컨텐츠 조회는 인증 필요
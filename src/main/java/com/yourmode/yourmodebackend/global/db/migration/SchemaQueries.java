@@ -0,0 +1,37 @@
+package com.yourmode.yourmodebackend.global.db.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 마이그레이션에서 쓰는 스키마 조회 (현재 DATABASE() 기준)
+ * 새 DB에서는 JPA가 테이블을 만들기 전에 마이그레이션이 먼저 실행되므로, 테이블이 없으면 건너뛸 수 있도록 확인합니다.
+ */
+final class SchemaQueries {
+
+    private SchemaQueries() {
+    }
+
+    static boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 컬럼 순서까지 같은 인덱스가 있는지 확인합니다. (columns 예: "content_id,user_id")
+     */
+    static boolean indexExists(JdbcTemplate jdbcTemplate, String table, String columns, boolean unique) {
+        List<String> indexes = jdbcTemplate.queryForList("""
+                SELECT index_name FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ?
+                  AND index_name <> 'PRIMARY' AND (? = 0 OR non_unique = 0)
+                GROUP BY index_name
+                HAVING GROUP_CONCAT(column_name ORDER BY seq_in_index) = ?
+                """, String.class, table, unique ? 1 : 0, columns);
+        return !indexes.isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.yourmode.yourmodebackend.global.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * content_views (content_id, user_id) 유니크 키 추가
+ * 조회 기록은 이 키에 INSERT IGNORE로 첫 조회를 판단하므로, 키가 없으면 모든 조회가 첫 조회로 집계됩니다.
+ * 중복 행을 (가장 최근 조회 시각을 남기고) 하나로 합친 뒤 키를 추가하며, 지워진 만큼의 조회수 차이는 content_stats 정합성 보정 작업에서 맞춰집니다.
+ */
+public class V1__AddContentViewsUniqueKey extends BaseJavaMigration {
+
+    private static final String KEEP_LATEST_VIEWED_AT_SQL = """
+            UPDATE content_views v
+            JOIN (
+                SELECT content_id, user_id, MAX(id) AS keep_id, MAX(viewed_at) AS last_viewed_at
+                FROM content_views
+                GROUP BY content_id, user_id
+                HAVING COUNT(*) > 1
+            ) d ON v.id = d.keep_id
+            SET v.viewed_at = d.last_viewed_at
+            """;
+
+    private static final String DELETE_DUPLICATES_SQL = """
+            DELETE v FROM content_views v
+            JOIN (
+                SELECT content_id, user_id, MAX(id) AS keep_id
+                FROM content_views
+                GROUP BY content_id, user_id
+                HAVING COUNT(*) > 1
+            ) d ON v.content_id = d.content_id AND v.user_id = d.user_id AND v.id <> d.keep_id
+            """;
+
+    private static final String ADD_UNIQUE_KEY_SQL =
+            "ALTER TABLE content_views ADD UNIQUE KEY uk_content_views_content_user (content_id, user_id)";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        // 새 DB는 JPA가 엔티티의 유니크 제약과 함께 테이블을 만듦
+        if (!SchemaQueries.tableExists(jdbcTemplate, "content_views")
+                || SchemaQueries.indexExists(jdbcTemplate, "content_views", "content_id,user_id", true)) {
+            return;
+        }
+        jdbcTemplate.update(KEEP_LATEST_VIEWED_AT_SQL);
+        jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+    }
+}
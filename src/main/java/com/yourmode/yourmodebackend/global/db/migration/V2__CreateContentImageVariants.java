@@ -0,0 +1,28 @@
+package com.yourmode.yourmodebackend.global.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * content_image_variants 테이블 생성
+ * 파생본 생성이 끝난 이미지 원본 URL을 기록하며, 기존 파생본은 다음 컨텐츠 수정 때 ETag 확인만 거쳐 기록됩니다.
+ */
+public class V2__CreateContentImageVariants extends BaseJavaMigration {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS content_image_variants (
+                source_url VARCHAR(512) NOT NULL,
+                source_etag VARCHAR(100),
+                generated_at DATETIME(6) NOT NULL,
+                PRIMARY KEY (source_url)
+            )
+            """;
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+}
@@ -0,0 +1,32 @@
+package com.yourmode.yourmodebackend.global.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * survey_answers (survey_history_id, survey_question_id, survey_option_id) 인덱스 추가
+ * 이력별 답변 조회가 답변 행을 읽지 않고 인덱스만으로 질문/선택지와 조인하도록 합니다. (SurveyAnswer 엔티티의 인덱스와 같음)
+ * 테이블 잠금 없이 온라인으로 추가합니다.
+ */
+public class V3__AddSurveyAnswersHistoryIndex extends BaseJavaMigration {
+
+    private static final String ADD_INDEX_SQL = """
+            ALTER TABLE survey_answers
+            ADD INDEX idx_survey_answers_history_question_option (survey_history_id, survey_question_id, survey_option_id),
+            ALGORITHM=INPLACE, LOCK=NONE
+            """;
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        // 새 DB는 JPA가 엔티티의 인덱스와 함께 테이블을 만듦
+        if (!SchemaQueries.tableExists(jdbcTemplate, "survey_answers")
+                || SchemaQueries.indexExists(jdbcTemplate, "survey_answers",
+                "survey_history_id,survey_question_id,survey_option_id", false)) {
+            return;
+        }
+        jdbcTemplate.execute(ADD_INDEX_SQL);
+    }
+}
@@ -0,0 +1,30 @@
+package com.yourmode.yourmodebackend.global.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * survey_histories (user_id, created_at) 인덱스 추가
+ * 사용자별 최신순 이력 페이지 조회가 정렬 없이 인덱스 순서대로 읽도록 합니다. (SurveyHistory 엔티티의 인덱스와 같음)
+ */
+public class V4__AddSurveyHistoriesUserCreatedAtIndex extends BaseJavaMigration {
+
+    private static final String ADD_INDEX_SQL = """
+            ALTER TABLE survey_histories
+            ADD INDEX idx_survey_histories_user_created_at (user_id, created_at),
+            ALGORITHM=INPLACE, LOCK=NONE
+            """;
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        // 새 DB는 JPA가 엔티티의 인덱스와 함께 테이블을 만듦
+        if (!SchemaQueries.tableExists(jdbcTemplate, "survey_histories")
+                || SchemaQueries.indexExists(jdbcTemplate, "survey_histories", "user_id,created_at", false)) {
+            return;
+        }
+        jdbcTemplate.execute(ADD_INDEX_SQL);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourmode.yourmodebackend.domain.content.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.content.dto.ContentCountDto;
+import com.yourmode.yourmodebackend.domain.content.dto.response.ContentDetailResponseDto;
+import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentSnapshotRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ContentSnapshotRenderer renderer = new ContentSnapshotRenderer(objectMapper, null);
+
+    @Test
+    void withCountsAppendsCountFieldsBeforeClosingBrace() {
+        String json = renderer.withCounts("{\"id\":1,\"title\":\"t\"}", new ContentCountDto(3L, 2L, 10L));
+
+        assertThat(json).isEqualTo("{\"id\":1,\"title\":\"t\",\"likeCount\":3,\"commentCount\":2,\"viewCount\":10}");
+    }
+
+    @Test
+    void withCountsReplacesCountsAlreadyInSnapshot() throws Exception {
+        String json = renderer.withCounts("{\"id\":1,\"likeCount\":99}", new ContentCountDto(3L, 2L, 10L));
+
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.path("likeCount").asLong()).isEqualTo(3L);
+        assertThat(node.size()).isEqualTo(4);
+    }
+
+    @Test
+    void withCountsRejectsBrokenSnapshot() {
+        assertThatThrownBy(() -> renderer.withCounts("{\"id\":1", ContentCountDto.empty()))
+                .isInstanceOf(RestApiException.class)
+                .satisfies(e -> assertThat(((RestApiException) e).getErrorCode().getCode())
+                        .isEqualTo(ContentErrorStatus.SNAPSHOT_READ_FAILED.getCode().getCode()));
+        assertThatThrownBy(() -> renderer.withCounts("[1]", ContentCountDto.empty()))
+                .isInstanceOf(RestApiException.class);
+    }
+
+    @Test
+    void withCountsKeepsNestedObjectsIntact() throws Exception {
+        String snapshot = "{\"id\":1,\"blocks\":[{\"style\":{\"fontSize\":12}}]}";
+
+        JsonNode node = objectMapper.readTree(renderer.withCounts(snapshot, ContentCountDto.empty()));
+
+        assertThat(node.path("blocks").get(0).path("style").path("fontSize").asInt()).isEqualTo(12);
+        assertThat(node.path("likeCount").asLong()).isZero();
+        assertThat(node.path("commentCount").asLong()).isZero();
+        assertThat(node.path("viewCount").asLong()).isZero();
+    }
+
+    @Test
+    void renderedSnapshotHasNoCountsUntilWithCounts() throws Exception {
+        ContentDetailResponseDto dto = new ContentDetailResponseDto();
+        dto.setId(1);
+        dto.setTitle("title");
+        dto.setLikeCount(99L);
+        dto.setCommentCount(99L);
+        dto.setViewCount(99L);
+
+        String snapshot = renderer.render(dto);
+        JsonNode node = objectMapper.readTree(renderer.withCounts(snapshot, new ContentCountDto(1L, 2L, 3L)));
+
+        assertThat(objectMapper.readTree(snapshot).has("likeCount")).isFalse();
+        assertThat(node.path("title").asText()).isEqualTo("title");
+        assertThat(node.path("likeCount").asLong()).isEqualTo(1L);
+        assertThat(node.path("commentCount").asLong()).isEqualTo(2L);
+        assertThat(node.path("viewCount").asLong()).isEqualTo(3L);
+    }
+}
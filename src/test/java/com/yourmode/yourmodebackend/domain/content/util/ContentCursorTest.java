@@ -0,0 +1,45 @@
+package com.yourmode.yourmodebackend.domain.content.util;
+
+import com.yourmode.yourmodebackend.domain.content.status.ContentErrorStatus;
+import com.yourmode.yourmodebackend.global.common.exception.RestApiException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentCursorTest {
+
+    @Test
+    void encodeThenDecodeReturnsSameCursor() {
+        ContentCursor cursor = new ContentCursor(LocalDateTime.of(2025, 7, 17, 12, 30, 45, 123_000_000), 42);
+
+        assertThat(ContentCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        String encoded = new ContentCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 7).encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        ContentCursor first = ContentCursor.decode(null);
+
+        assertThat(ContentCursor.decode("")).isEqualTo(first);
+        assertThat(ContentCursor.decode("  ")).isEqualTo(first);
+        assertThat(first.id()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(first.createdAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ContentCursor.decode("not-a-cursor"))
+                .isInstanceOf(RestApiException.class)
+                .satisfies(e -> assertThat(((RestApiException) e).getErrorCode().getCode())
+                        .isEqualTo(ContentErrorStatus.INVALID_CURSOR.getCode().getCode()));
+    }
+}
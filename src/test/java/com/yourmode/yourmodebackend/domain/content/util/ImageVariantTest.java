@@ -0,0 +1,40 @@
+package com.yourmode.yourmodebackend.domain.content.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+    @Test
+    void variantKeyKeepsSourceExtension() {
+        assertThat(ImageVariant.THUMBNAIL.of("contents/users/1/photo.png"))
+                .isEqualTo("contents/users/1/photo.png_w320.jpg");
+        assertThat(ImageVariant.DETAIL.of("https://bucket.s3.amazonaws.com/contents/users/1/photo.jpg"))
+                .isEqualTo("https://bucket.s3.amazonaws.com/contents/users/1/photo.jpg_w1080.jpg");
+    }
+
+    @Test
+    void sourcesWithSameNameDoNotShareVariants() {
+        assertThat(ImageVariant.LIST.of("contents/users/1/photo.png"))
+                .isNotEqualTo(ImageVariant.LIST.of("contents/users/1/photo.jpg"));
+    }
+
+    @Test
+    void variantKeysAreNotSupported() {
+        String variant = ImageVariant.THUMBNAIL.of("contents/users/1/photo.png");
+
+        assertThat(ImageVariant.supports(variant)).isFalse();
+        assertThat(ImageVariant.LIST.of(variant)).isNull();
+    }
+
+    @Test
+    void onlyUserDirectoryKeysAreSupported() {
+        assertThat(ImageVariant.supports("contents/users/1/photo.png")).isTrue();
+        assertThat(ImageVariant.supports("https://example.com/photo.png")).isFalse();
+        assertThat(ImageVariant.supports("https://example.com/contents/users/1/photo.png")).isFalse();
+        assertThat(ImageVariant.supports("other/contents/users/1/photo.png")).isFalse();
+        assertThat(ImageVariant.supports(null)).isFalse();
+        assertThat(ImageVariant.DETAIL.of(null)).isNull();
+    }
+}
@@ -0,0 +1,103 @@
+package com.yourmode.yourmodebackend.domain.survey.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastApiCircuitBreakerTest {
+
+    // 최근 4회 중 50% 이상 실패하면 OPEN, openDurationMillis가 0이면 다음 호출에서 바로 HALF_OPEN
+    private static FastApiCircuitBreaker breaker(long openDurationMillis) {
+        return new FastApiCircuitBreaker(4, 4, 50, openDurationMillis, new SimpleMeterRegistry());
+    }
+
+    private static void complete(FastApiCircuitBreaker breaker, boolean failure) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (failure) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        FastApiCircuitBreaker breaker = breaker(60_000);
+
+        complete(breaker, true);
+        complete(breaker, true);
+        complete(breaker, true);
+
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThresholdAndRejectsCalls() {
+        FastApiCircuitBreaker breaker = breaker(60_000);
+
+        complete(breaker, false);
+        complete(breaker, false);
+        complete(breaker, true);
+        complete(breaker, true);
+
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void halfOpenProbeSuccessCloses() {
+        FastApiCircuitBreaker breaker = openedBreaker();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+        // 닫힐 때 창이 초기화되므로 이전 실패가 남지 않아, 실패 1건으로는 다시 열리지 않음
+        complete(breaker, true);
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeFailureReopens() {
+        FastApiCircuitBreaker breaker = openedBreaker();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAllowsOnlyOneProbeAtATime() {
+        FastApiCircuitBreaker breaker = openedBreaker();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void ignoredProbeReleasesPermitForNextProbe() {
+        FastApiCircuitBreaker breaker = openedBreaker();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+    }
+
+    private static FastApiCircuitBreaker openedBreaker() {
+        FastApiCircuitBreaker breaker = breaker(0);
+        for (int i = 0; i < 4; i++) {
+            complete(breaker, true);
+        }
+        assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourmode.yourmodebackend.domain.survey.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourmode.yourmodebackend.domain.survey.dto.request.SurveyTextAnswersRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurveyAnalysisResultCacheTest {
+
+    private SurveyAnalysisResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SurveyAnalysisResultCache(null, new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "version", "v1");
+    }
+
+    @Test
+    void sameRequestGivesSameSha256Key() {
+        String key = cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2));
+
+        assertThat(key).hasSize(64).matches("[0-9a-f]+");
+        assertThat(cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2))).isEqualTo(key);
+    }
+
+    @Test
+    void heightAndWeightNotationDoesNotChangeKey() {
+        assertThat(cache.keyOf(request(answers("답변"), "여성", Double.valueOf("164.50"), Double.valueOf("55.0"))))
+                .isEqualTo(cache.keyOf(request(answers("답변"), "여성", 164.5, 55.0)));
+        assertThat(cache.keyOf(request(answers("답변"), "여성", 164.0, 55.0)))
+                .isEqualTo(cache.keyOf(request(answers("답변"), "여성", Double.valueOf("164"), Double.valueOf("55"))));
+    }
+
+    @Test
+    void surroundingWhitespaceIsStripped() {
+        assertThat(cache.keyOf(request(answers("  답변\n"), " 여성 ", 164.5, 55.2)))
+                .isEqualTo(cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2)));
+    }
+
+    @Test
+    void differentInputsGiveDifferentKeys() {
+        String key = cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2));
+
+        assertThat(cache.keyOf(request(answers("다른 답변"), "여성", 164.5, 55.2))).isNotEqualTo(key);
+        assertThat(cache.keyOf(request(answers("답변"), "남성", 164.5, 55.2))).isNotEqualTo(key);
+        assertThat(cache.keyOf(request(answers("답변"), "여성", 164.6, 55.2))).isNotEqualTo(key);
+        assertThat(cache.keyOf(request(answers("답변"), "여성", 164.5, 55.3))).isNotEqualTo(key);
+    }
+
+    @Test
+    void answerBoundariesAreSeparated() {
+        List<String> joined = answers("답변");
+        joined.set(0, "ab");
+        joined.set(1, "");
+        List<String> split = answers("답변");
+        split.set(0, "a");
+        split.set(1, "b");
+
+        assertThat(cache.keyOf(request(joined, "여성", 164.5, 55.2)))
+                .isNotEqualTo(cache.keyOf(request(split, "여성", 164.5, 55.2)));
+    }
+
+    @Test
+    void versionChangesKey() {
+        String key = cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2));
+        ReflectionTestUtils.setField(cache, "version", "v2");
+
+        assertThat(cache.keyOf(request(answers("답변"), "여성", 164.5, 55.2))).isNotEqualTo(key);
+    }
+
+    private static List<String> answers(String answer) {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            answers.add(answer);
+        }
+        return answers;
+    }
+
+    private static SurveyTextAnswersRequestDto request(List<String> answers, String gender, Double height, Double weight) {
+        SurveyTextAnswersRequestDto dto = new SurveyTextAnswersRequestDto();
+        dto.setAnswers(answers);
+        dto.setGender(gender);
+        dto.setHeight(height);
+        dto.setWeight(weight);
+        return dto;
+    }
+}
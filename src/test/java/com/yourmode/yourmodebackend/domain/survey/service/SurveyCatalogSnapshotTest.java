@@ -0,0 +1,56 @@
+package com.yourmode.yourmodebackend.domain.survey.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurveyCatalogSnapshotTest {
+
+    // 질문 1: 선택지 1, 2 / 질문 3: 선택지 4 (질문 2, 선택지 3은 없음)
+    private static SurveyCatalog.Snapshot snapshot() {
+        BitSet questionIds = new BitSet();
+        questionIds.set(1);
+        questionIds.set(3);
+        int[] questionIdByOptionId = {0, 1, 1, 0, 3};
+        return new SurveyCatalog.Snapshot("v", List.of(), questionIds, questionIdByOptionId);
+    }
+
+    @Test
+    void hasQuestionOnlyForLoadedQuestions() {
+        SurveyCatalog.Snapshot snapshot = snapshot();
+
+        assertThat(snapshot.hasQuestion(1)).isTrue();
+        assertThat(snapshot.hasQuestion(3)).isTrue();
+        assertThat(snapshot.hasQuestion(2)).isFalse();
+        assertThat(snapshot.hasQuestion(100)).isFalse();
+        assertThat(snapshot.hasQuestion(-1)).isFalse();
+        assertThat(snapshot.hasQuestion(null)).isFalse();
+    }
+
+    @Test
+    void isOptionOfMatchesOwningQuestion() {
+        SurveyCatalog.Snapshot snapshot = snapshot();
+
+        assertThat(snapshot.isOptionOf(1, 1)).isTrue();
+        assertThat(snapshot.isOptionOf(2, 1)).isTrue();
+        assertThat(snapshot.isOptionOf(4, 3)).isTrue();
+        assertThat(snapshot.isOptionOf(4, 1)).isFalse();
+        assertThat(snapshot.isOptionOf(1, 3)).isFalse();
+    }
+
+    @Test
+    void isOptionOfRejectsUnknownOptions() {
+        SurveyCatalog.Snapshot snapshot = snapshot();
+
+        // 비어 있는 칸(0)은 질문 ID 0과 같아 보이지만 존재하지 않는 선택지
+        assertThat(snapshot.isOptionOf(3, 0)).isFalse();
+        assertThat(snapshot.isOptionOf(0, 0)).isFalse();
+        assertThat(snapshot.isOptionOf(5, 1)).isFalse();
+        assertThat(snapshot.isOptionOf(-1, 1)).isFalse();
+        assertThat(snapshot.isOptionOf(null, 1)).isFalse();
+        assertThat(snapshot.isOptionOf(1, null)).isFalse();
+    }
+}